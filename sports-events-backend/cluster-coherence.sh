@@ -0,0 +1,132 @@
+#!/bin/bash
+
+# Multi-JVM check of the cluster invalidation bus. Starts two backend nodes on one shared
+# H2 file database (AUTO_SERVER mode) with the UDP transport, warms node B's caches,
+# books on node A and verifies node B stops answering 304 for the event it had cached.
+#   mvn -B package -DskipTests && ./cluster-coherence.sh
+
+set -e
+
+JAR=${JAR:-target/sports-events-backend-1.0.0-exec.jar}
+JAVA=${JAVA:-java}
+CREDENTIALS=${CREDENTIALS:-admin:admin123}
+PORT_A=${PORT_A:-18081}
+PORT_B=${PORT_B:-18082}
+UDP_A=${UDP_A:-17601}
+UDP_B=${UDP_B:-17602}
+# Time allowed for a batch to reach the other node
+PROPAGATION_WAIT=${PROPAGATION_WAIT:-1}
+
+# Colors for output
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+print_status() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+print_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+if [ ! -f "$JAR" ]; then
+    print_error "JVM jar $JAR not found, run mvn package first"
+    exit 1
+fi
+
+# The default security chain requires a CSRF token for POST; the check runs the nodes without it
+NO_SECURITY=org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,\
+org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration
+
+DATA_DIR=$(mktemp -d)
+PIDS=()
+
+cleanup() {
+    for pid in "${PIDS[@]}"; do
+        kill "$pid" 2> /dev/null || true
+        wait "$pid" 2> /dev/null || true
+    done
+    rm -rf "$DATA_DIR"
+}
+trap cleanup EXIT
+
+# Start one node and wait until it reports healthy
+start_node() {
+    local name=$1 port=$2 udp=$3
+    "$JAVA" -jar "$JAR" \
+        --server.port="$port" \
+        --spring.profiles.active=durable \
+        --sportsevents.storage.path="$DATA_DIR" \
+        --spring.datasource.url="jdbc:h2:file:$DATA_DIR/sportsevents;AUTO_SERVER=TRUE" \
+        --sportsevents.storage.snapshot.enabled=false \
+        --sportsevents.jit-warmup.enabled=false \
+        --sportsevents.cache-warmup.enabled=false \
+        --sportsevents.outbox.sink=memory \
+        --spring.autoconfigure.exclude="$NO_SECURITY" \
+        --sportsevents.cluster.transport=udp \
+        --sportsevents.cluster.udp.port="$udp" \
+        --sportsevents.cluster.udp.peers="localhost:$UDP_A,localhost:$UDP_B" \
+        > "$DATA_DIR/$name.log" 2>&1 &
+    local pid=$!
+    PIDS+=("$pid")
+    print_status "Starting node $name on port $port"
+    until curl -sf -u "$CREDENTIALS" "http://localhost:$port/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            print_error "Node $name exited, see log:"
+            tail -50 "$DATA_DIR/$name.log"
+            exit 1
+        fi
+        sleep 1
+    done
+}
+
+etag() {
+    curl -s -o /dev/null -D - -u "$CREDENTIALS" "$1" | tr -d '\r' | awk -F': ' 'tolower($1) == "etag" { print $2 }'
+}
+
+status_with_etag() {
+    curl -s -o /dev/null -w "%{http_code}" -u "$CREDENTIALS" -H "If-None-Match: $2" "$1"
+}
+
+# Node A creates the schema and seeds the data, node B finds it in place
+start_node A "$PORT_A" "$UDP_A"
+start_node B "$PORT_B" "$UDP_B"
+
+# Find a user and open event that can still be booked
+booking=""
+for event_id in $(seq 1 10); do
+    for user_id in $(seq 1 10); do
+        url_b="http://localhost:$PORT_B/api/events/$event_id"
+        tag_before=$(etag "$url_b")
+        [ -z "$tag_before" ] && continue
+        if [ "$(status_with_etag "$url_b" "$tag_before")" != "304" ]; then
+            print_error "Node B does not answer 304 for an unchanged event"
+            exit 1
+        fi
+        code=$(curl -s -o /dev/null -w "%{http_code}" -u "$CREDENTIALS" -X POST \
+            "http://localhost:$PORT_A/api/bookings?userId=$user_id&eventId=$event_id")
+        if [ "$code" = "200" ]; then
+            booking="$user_id/$event_id"
+            break 2
+        fi
+    done
+done
+
+if [ -z "$booking" ]; then
+    print_error "No bookable user and event found"
+    exit 1
+fi
+print_status "Booked user/event $booking on node A"
+
+sleep "$PROPAGATION_WAIT"
+status=$(status_with_etag "$url_b" "$tag_before")
+received=$(curl -s -u "$CREDENTIALS" "http://localhost:$PORT_B/actuator/metrics/cluster.invalidations.received" \
+    | grep -o '"value":[0-9.]*' | head -1 | cut -d: -f2)
+
+if [ "$status" = "200" ]; then
+    print_status "Node B revalidated event $event_id after the change on node A (${received:-0} invalidations received)"
+else
+    print_error "Node B still answers $status for event $event_id; caches are not coherent"
+    exit 1
+fi
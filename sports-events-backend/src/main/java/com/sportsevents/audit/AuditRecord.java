@@ -0,0 +1,106 @@
+package com.sportsevents.audit;
+
+import com.sportsevents.model.Booking;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * One booking transition in the audit log: the booking's state right after the change.
+ * The sequence number and timestamp are assigned by the log when the record is appended;
+ * user and event ids are 0 when the transition did not load them.
+ * Encoded as 54 bytes plus the UTF-8 payment reference.
+ */
+public record AuditRecord(long sequence, Instant recordedAt, Type type, long bookingId, long userId, long eventId,
+                          Booking.BookingStatus bookingStatus, Booking.PaymentStatus paymentStatus,
+                          BigDecimal totalAmount, String paymentReference) {
+    
+    // Ordinals are stored, so new constants go at the end
+    public enum Type {
+        CREATED, STATUS_CHANGED, PAYMENT_CHANGED, CANCELLED
+    }
+    
+    private static final int NULL_ORDINAL = -1;
+    
+    private static final int NULL_SCALE = Byte.MIN_VALUE;
+    
+    private static final int NULL_LENGTH = 0xFFFF;
+    
+    /**
+     * A record of a transition, to be numbered and timestamped by the log
+     */
+    public static AuditRecord of(Type type, long bookingId, long userId, long eventId,
+                                 Booking.BookingStatus bookingStatus, Booking.PaymentStatus paymentStatus,
+                                 BigDecimal totalAmount, String paymentReference) {
+        return new AuditRecord(0, null, type, bookingId, userId, eventId, bookingStatus, paymentStatus,
+                totalAmount, paymentReference);
+    }
+    
+    AuditRecord stamp(long sequence, Instant recordedAt) {
+        return new AuditRecord(sequence, recordedAt, type, bookingId, userId, eventId, bookingStatus, paymentStatus,
+                totalAmount, paymentReference);
+    }
+    
+    /**
+     * Write the record at the buffer's position
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.putLong(sequence);
+        buffer.putLong(ChronoUnit.MICROS.between(Instant.EPOCH, recordedAt));
+        buffer.put((byte) type.ordinal());
+        buffer.putLong(bookingId);
+        buffer.putLong(userId);
+        buffer.putLong(eventId);
+        buffer.put((byte) (bookingStatus != null ? bookingStatus.ordinal() : NULL_ORDINAL));
+        buffer.put((byte) (paymentStatus != null ? paymentStatus.ordinal() : NULL_ORDINAL));
+        if (totalAmount != null) {
+            buffer.putLong(totalAmount.unscaledValue().longValueExact());
+            buffer.put((byte) totalAmount.scale());
+        } else {
+            buffer.putLong(0);
+            buffer.put((byte) NULL_SCALE);
+        }
+        if (paymentReference != null) {
+            byte[] reference = paymentReference.getBytes(StandardCharsets.UTF_8);
+            if (reference.length >= NULL_LENGTH) {
+                throw new IllegalArgumentException("Payment reference too long for the audit log");
+            }
+            buffer.putShort((short) reference.length);
+            buffer.put(reference);
+        } else {
+            buffer.putShort((short) NULL_LENGTH);
+        }
+    }
+    
+    /**
+     * Read a record written by {@link #writeTo(ByteBuffer)} from the buffer's position
+     */
+    static AuditRecord readFrom(ByteBuffer buffer) {
+        long sequence = buffer.getLong();
+        Instant recordedAt = Instant.EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        Type type = Type.values()[buffer.get()];
+        long bookingId = buffer.getLong();
+        long userId = buffer.getLong();
+        long eventId = buffer.getLong();
+        byte bookingStatus = buffer.get();
+        byte paymentStatus = buffer.get();
+        long unscaledAmount = buffer.getLong();
+        byte scale = buffer.get();
+        int referenceLength = Short.toUnsignedInt(buffer.getShort());
+        String paymentReference = null;
+        if (referenceLength != NULL_LENGTH) {
+            byte[] reference = new byte[referenceLength];
+            buffer.get(reference);
+            paymentReference = new String(reference, StandardCharsets.UTF_8);
+        }
+        return new AuditRecord(sequence, recordedAt, type, bookingId, userId, eventId,
+                bookingStatus != NULL_ORDINAL ? Booking.BookingStatus.values()[bookingStatus] : null,
+                paymentStatus != NULL_ORDINAL ? Booking.PaymentStatus.values()[paymentStatus] : null,
+                scale != NULL_SCALE ? new BigDecimal(BigInteger.valueOf(unscaledAmount), scale) : null,
+                paymentReference);
+    }
+}
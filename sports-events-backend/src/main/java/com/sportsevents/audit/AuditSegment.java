@@ -0,0 +1,230 @@
+package com.sportsevents.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * File layout of the audit log. Each segment file is named after the sequence number of its first
+ * record and holds frames of a 4-byte body length, a CRC32C of the body and the encoded record.
+ * A zero length, a bad checksum or a frame running past the file ends the segment, so a frame torn
+ * by a crash and the preallocated space after the last record both read as the end.
+ * A sealed segment has an index file next to it: its (booking id, frame position) pairs sorted by
+ * booking id, so a booking's history is found without scanning the segment.
+ */
+final class AuditSegment {
+    
+    static final int FRAME_HEADER = 8;
+    
+    private static final String PREFIX = "bookings-";
+    
+    private static final String SUFFIX = ".audit";
+    
+    private static final String INDEX_SUFFIX = ".idx";
+    
+    private static final int INDEX_MAGIC = 0x41554458;
+    
+    private static final int INDEX_HEADER = 8;
+    
+    private static final int INDEX_ENTRY = 12;
+    
+    /**
+     * Called for every valid frame of a segment with the frame's position
+     */
+    interface FrameVisitor {
+        void visit(int position, AuditRecord record);
+    }
+    
+    /**
+     * Booking id and position of each frame of a segment, in append order
+     */
+    static final class Frames {
+        
+        private long[] bookingIds = new long[1024];
+        
+        private int[] positions = new int[1024];
+        
+        private int count;
+        
+        void add(long bookingId, int position) {
+            if (count == bookingIds.length) {
+                bookingIds = Arrays.copyOf(bookingIds, count * 2);
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            bookingIds[count] = bookingId;
+            positions[count] = position;
+            count++;
+        }
+    }
+    
+    private AuditSegment() {
+    }
+    
+    static Path file(Path directory, long baseSequence) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, baseSequence, SUFFIX));
+    }
+    
+    static Path indexFile(Path segment) {
+        String name = segment.getFileName().toString();
+        return segment.resolveSibling(name.substring(0, name.length() - SUFFIX.length()) + INDEX_SUFFIX);
+    }
+    
+    static long baseSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+    
+    /**
+     * Segment files of the directory, oldest first
+     */
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted(Comparator.comparingLong(AuditSegment::baseSequence)).toList();
+        }
+    }
+    
+    static MappedByteBuffer mapReadOnly(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+    
+    /**
+     * Write one frame at the position; the header goes last so a reader never sees a length
+     * before its body. Returns the frame size.
+     */
+    static int writeFrame(ByteBuffer segment, int position, ByteBuffer body) {
+        int length = body.remaining();
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        segment.put(position + FRAME_HEADER, body, body.position(), length);
+        segment.putInt(position + 4, (int) crc.getValue());
+        segment.putInt(position, length);
+        return FRAME_HEADER + length;
+    }
+    
+    /**
+     * The record of the frame at the position, or null past the last valid frame
+     */
+    static AuditRecord readFrame(ByteBuffer segment, int position) {
+        if (position + FRAME_HEADER > segment.limit()) {
+            return null;
+        }
+        int length = segment.getInt(position);
+        if (length <= 0 || length > segment.limit() - position - FRAME_HEADER) {
+            return null;
+        }
+        ByteBuffer body = segment.slice(position + FRAME_HEADER, length);
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != segment.getInt(position + 4)) {
+            return null;
+        }
+        return AuditRecord.readFrom(body);
+    }
+    
+    /**
+     * Visit every valid frame in order; returns the position after the last one
+     */
+    static int scan(ByteBuffer segment, FrameVisitor visitor) {
+        int position = 0;
+        AuditRecord record;
+        while ((record = readFrame(segment, position)) != null) {
+            visitor.visit(position, record);
+            position += FRAME_HEADER + segment.getInt(position);
+        }
+        return position;
+    }
+    
+    /**
+     * Write the index of a segment from its frames in append order
+     */
+    static void writeIndex(Path segment, Frames frames) throws IOException {
+        long[] bookingIds = frames.bookingIds;
+        // Stable, so each booking's frames stay in append order
+        Integer[] order = new Integer[frames.count];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingLong(i -> bookingIds[i]));
+        
+        ByteBuffer index = ByteBuffer.allocate(INDEX_HEADER + frames.count * INDEX_ENTRY);
+        index.putInt(INDEX_MAGIC).putInt(frames.count);
+        for (int i : order) {
+            index.putLong(bookingIds[i]).putInt(frames.positions[i]);
+        }
+        index.flip();
+        
+        Path target = indexFile(segment);
+        Path temp = Files.createTempFile(segment.getParent(), PREFIX, ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (index.hasRemaining()) {
+                channel.write(index);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * Rebuild the index of a segment by scanning it; returns the position after its last valid frame
+     */
+    static int rebuildIndex(Path segment) throws IOException {
+        Frames frames = new Frames();
+        int end = scan(mapReadOnly(segment), (position, record) -> frames.add(record.bookingId(), position));
+        writeIndex(segment, frames);
+        return end;
+    }
+    
+    /**
+     * Frame positions of a booking from a segment's index, or null when the index is missing or unreadable
+     */
+    static int[] lookup(Path segment, long bookingId) throws IOException {
+        Path indexFile = indexFile(segment);
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        ByteBuffer index = mapReadOnly(indexFile);
+        if (index.limit() < INDEX_HEADER || index.getInt(0) != INDEX_MAGIC) {
+            return null;
+        }
+        int count = index.getInt(4);
+        if (index.limit() != INDEX_HEADER + (long) count * INDEX_ENTRY) {
+            return null;
+        }
+        // Lower bound of the booking id
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index.getLong(INDEX_HEADER + mid * INDEX_ENTRY) < bookingId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int end = low;
+        while (end < count && index.getLong(INDEX_HEADER + end * INDEX_ENTRY) == bookingId) {
+            end++;
+        }
+        int[] positions = new int[end - low];
+        for (int i = low; i < end; i++) {
+            positions[i - low] = index.getInt(INDEX_HEADER + i * INDEX_ENTRY + 8);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sportsevents.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Prints the booking audit log as tab-separated lines, one record per line:
+ * <pre>
+ * java -cp sports-events-backend-1.0.0-exec.jar -Dloader.main=com.sportsevents.audit.BookingAuditCli \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher &lt;directory&gt; [--from &lt;sequence&gt;] [--booking &lt;id&gt;]
+ * </pre>
+ * {@code --from} replays the log from a sequence number, {@code --booking} prints one booking's history.
+ */
+public final class BookingAuditCli {
+    
+    private static final String USAGE = "Usage: BookingAuditCli <directory> [--from <sequence>] [--booking <id>]";
+    
+    private static final String HEADER =
+            "sequence\trecordedAt\ttype\tbookingId\tuserId\teventId\tbookingStatus\tpaymentStatus\ttotalAmount\tpaymentReference";
+    
+    private BookingAuditCli() {
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args.length % 2 == 0) {
+            exit(USAGE);
+        }
+        Path directory = Path.of(args[0]);
+        long fromSequence = 0;
+        Long bookingId = null;
+        for (int i = 1; i < args.length; i += 2) {
+            try {
+                switch (args[i]) {
+                    case "--from" -> fromSequence = Long.parseLong(args[i + 1]);
+                    case "--booking" -> bookingId = Long.parseLong(args[i + 1]);
+                    default -> exit(USAGE);
+                }
+            } catch (NumberFormatException e) {
+                exit("Not a number: " + args[i + 1]);
+            }
+        }
+        if (!Files.isDirectory(directory)) {
+            exit("No audit log directory " + directory);
+        }
+        
+        BookingAuditReader reader = new BookingAuditReader(directory);
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        out.println(HEADER);
+        try {
+            if (bookingId != null) {
+                long from = fromSequence;
+                reader.history(bookingId).stream()
+                        .filter(record -> record.sequence() >= from)
+                        .forEach(record -> out.println(format(record)));
+            } else {
+                reader.replay(fromSequence, record -> out.println(format(record)));
+            }
+        } finally {
+            out.flush();
+        }
+    }
+    
+    static String format(AuditRecord record) {
+        return record.sequence() + "\t" + record.recordedAt() + "\t" + record.type() + "\t" +
+                record.bookingId() + "\t" + record.userId() + "\t" + record.eventId() + "\t" +
+                orEmpty(record.bookingStatus()) + "\t" + orEmpty(record.paymentStatus()) + "\t" +
+                orEmpty(record.totalAmount() != null ? record.totalAmount().toPlainString() : null) + "\t" +
+                orEmpty(record.paymentReference());
+    }
+    
+    private static String orEmpty(Object value) {
+        return value != null ? value.toString().replace('\t', ' ') : "";
+    }
+    
+    private static void exit(String message) {
+        System.err.println(message);
+        System.exit(2);
+    }
+}
@@ -0,0 +1,288 @@
+package com.sportsevents.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only journal of booking transitions in memory-mapped segment files of {@code segment-size}.
+ * An append copies the encoded record into the mapped segment under a short lock and returns, so
+ * the record survives a crash of the process at once. A syncer thread flushes the new bytes to disk
+ * every {@code sync-interval-ms}, one fsync for every record appended in the interval. A full
+ * segment is sealed, indexed by booking id and replaced by a new one; every start opens a new
+ * segment after the last valid record, so a frame torn by a crash is never appended to.
+ */
+@Component
+@Lazy(false)
+public class BookingAuditLog {
+    
+    private static final Logger log = LoggerFactory.getLogger(BookingAuditLog.class);
+    
+    private static final int MAX_RECORD = 64 * 1024;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.audit.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${sportsevents.audit.directory:audit}")
+    private Path directory;
+    
+    @Value("${sportsevents.audit.segment-size:64MB}")
+    private DataSize segmentSize;
+    
+    @Value("${sportsevents.audit.sync-interval-ms:50}")
+    private long syncIntervalMs;
+    
+    private final ReentrantLock appendLock = new ReentrantLock();
+    
+    // Encoding buffer, only used under the append lock
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD);
+    
+    // Segments rotated out by appends, waiting for the syncer to flush and index them
+    private final ConcurrentLinkedQueue<Segment> sealed = new ConcurrentLinkedQueue<>();
+    
+    private Segment active;
+    
+    private long nextSequence;
+    
+    private volatile boolean open;
+    
+    private Thread syncer;
+    
+    private Counter recordsCounter;
+    
+    private Counter failuresCounter;
+    
+    private Counter segmentsCounter;
+    
+    private Timer syncTimer;
+    
+    /**
+     * The mapped file a segment's records are appended to
+     */
+    private static final class Segment {
+        
+        final Path file;
+        
+        final FileChannel channel;
+        
+        final MappedByteBuffer buffer;
+        
+        final AuditSegment.Frames frames = new AuditSegment.Frames();
+        
+        // Written under the append lock
+        int position;
+        
+        // Written by the syncer only
+        int synced;
+        
+        Segment(Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+    
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("sportsevents.audit.segment-size must be below 2GB");
+        }
+        recordsCounter = Counter.builder("audit.records")
+                .description("Booking transitions appended to the audit log")
+                .register(meterRegistry);
+        failuresCounter = Counter.builder("audit.failures")
+                .description("Booking transitions that could not be appended to the audit log")
+                .register(meterRegistry);
+        segmentsCounter = Counter.builder("audit.segments")
+                .description("Audit log segments sealed")
+                .register(meterRegistry);
+        syncTimer = Timer.builder("audit.sync")
+                .description("Time to flush newly appended audit records to disk")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        
+        Files.createDirectories(directory);
+        nextSequence = 1;
+        List<Path> segments = AuditSegment.list(directory);
+        for (Path segment : segments) {
+            // Left unsealed by a crash: index it and cut off the torn frame and unused space
+            if (!Files.exists(AuditSegment.indexFile(segment))) {
+                int end = AuditSegment.rebuildIndex(segment);
+                try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                    channel.truncate(end);
+                }
+            }
+        }
+        if (!segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+            nextSequence = AuditSegment.baseSequence(last);
+            AuditSegment.scan(AuditSegment.mapReadOnly(last), (position, record) -> nextSequence = record.sequence() + 1);
+            // Opened by a run that appended nothing, the new segment takes its name
+            if (nextSequence == AuditSegment.baseSequence(last)) {
+                Files.delete(last);
+                Files.deleteIfExists(AuditSegment.indexFile(last));
+            }
+        }
+        active = createSegment(nextSequence);
+        open = true;
+        syncer = Thread.ofPlatform().name("audit-sync").daemon().start(this::syncLoop);
+        log.info("Booking audit log in {} continues at sequence {}", directory.toAbsolutePath(), nextSequence);
+    }
+    
+    /**
+     * Append a transition. Never throws: a failure is logged and counted, as the transition has
+     * already been committed.
+     */
+    public void append(AuditRecord record) {
+        if (!open) {
+            return;
+        }
+        appendLock.lock();
+        try {
+            // Closed while waiting for the lock
+            if (!open) {
+                return;
+            }
+            AuditRecord stamped = record.stamp(nextSequence, Instant.now());
+            scratch.clear();
+            stamped.writeTo(scratch);
+            scratch.flip();
+            if (active.position + AuditSegment.FRAME_HEADER + scratch.remaining() > active.buffer.capacity()) {
+                rotate();
+            }
+            int position = active.position;
+            active.position += AuditSegment.writeFrame(active.buffer, position, scratch);
+            active.frames.add(stamped.bookingId(), position);
+            nextSequence++;
+            recordsCounter.increment();
+        } catch (IOException | RuntimeException e) {
+            failuresCounter.increment();
+            log.error("Failed to append {} of booking {} to the audit log", record.type(), record.bookingId(), e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+    
+    /**
+     * Flush every appended record to disk
+     */
+    public void sync() {
+        Segment segment;
+        int end;
+        appendLock.lock();
+        try {
+            segment = active;
+            end = segment.position;
+        } finally {
+            appendLock.unlock();
+        }
+        // Segments rotated out since the last sync hold the older records
+        Segment full;
+        while ((full = sealed.poll()) != null) {
+            seal(full);
+        }
+        flush(segment, end);
+    }
+    
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (!open) {
+            return;
+        }
+        syncer.interrupt();
+        syncer.join(1000);
+        appendLock.lock();
+        try {
+            open = false;
+            sealed.add(active);
+        } finally {
+            appendLock.unlock();
+        }
+        Segment segment;
+        while ((segment = sealed.poll()) != null) {
+            seal(segment);
+        }
+    }
+    
+    private void syncLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(syncIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                sync();
+            } catch (RuntimeException e) {
+                log.error("Failed to sync the audit log", e);
+            }
+        }
+    }
+    
+    private void rotate() throws IOException {
+        Segment next = createSegment(nextSequence);
+        sealed.add(active);
+        active = next;
+    }
+    
+    private Segment createSegment(long baseSequence) throws IOException {
+        Path file = AuditSegment.file(directory, baseSequence);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Mapping past the end extends the file; the new space reads as zeros, the end of the segment
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize.toBytes());
+        return new Segment(file, channel, buffer);
+    }
+    
+    private void flush(Segment segment, int end) {
+        if (end > segment.synced) {
+            int from = segment.synced;
+            syncTimer.record(() -> segment.buffer.force(from, end - from));
+            segment.synced = end;
+        }
+    }
+    
+    /**
+     * Flush a segment no longer appended to, write its index and cut the unused space off the file
+     */
+    private void seal(Segment segment) {
+        flush(segment, segment.position);
+        try {
+            AuditSegment.writeIndex(segment.file, segment.frames);
+            segment.channel.truncate(segment.position);
+            segment.channel.close();
+            segmentsCounter.increment();
+        } catch (IOException e) {
+            // Rebuilt from the segment on the next start
+            throw new UncheckedIOException("Failed to seal audit segment " + segment.file, e);
+        }
+    }
+}
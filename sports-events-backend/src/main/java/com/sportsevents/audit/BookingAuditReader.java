@@ -0,0 +1,67 @@
+package com.sportsevents.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the booking audit log from its directory, also while a backend is appending to it.
+ * Has no Spring dependencies, so it can run from the command line next to a stopped or running node.
+ */
+public class BookingAuditReader {
+    
+    private final Path directory;
+    
+    public BookingAuditReader(Path directory) {
+        this.directory = directory;
+    }
+    
+    /**
+     * Pass every record from {@code fromSequence} on to the consumer, in sequence order
+     */
+    public void replay(long fromSequence, Consumer<AuditRecord> consumer) throws IOException {
+        List<Path> segments = AuditSegment.list(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            // Skip segments that end before the requested sequence
+            if (i + 1 < segments.size() && AuditSegment.baseSequence(segments.get(i + 1)) <= fromSequence) {
+                continue;
+            }
+            AuditSegment.scan(AuditSegment.mapReadOnly(segments.get(i)), (position, record) -> {
+                if (record.sequence() >= fromSequence) {
+                    consumer.accept(record);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Every record of a booking, oldest first. Sealed segments are searched through their index,
+     * the segment being appended to is scanned.
+     */
+    public List<AuditRecord> history(long bookingId) throws IOException {
+        List<AuditRecord> history = new ArrayList<>();
+        for (Path segment : AuditSegment.list(directory)) {
+            ByteBuffer buffer = AuditSegment.mapReadOnly(segment);
+            int[] positions = AuditSegment.lookup(segment, bookingId);
+            if (positions == null) {
+                AuditSegment.scan(buffer, (position, record) -> {
+                    if (record.bookingId() == bookingId) {
+                        history.add(record);
+                    }
+                });
+                continue;
+            }
+            for (int position : positions) {
+                AuditRecord record = AuditSegment.readFrame(buffer, position);
+                if (record == null) {
+                    throw new IOException("Audit index of " + segment + " points past the segment's valid records");
+                }
+                history.add(record);
+            }
+        }
+        return history;
+    }
+}
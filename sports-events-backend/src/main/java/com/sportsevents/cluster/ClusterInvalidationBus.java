@@ -0,0 +1,234 @@
+package com.sportsevents.cluster;
+
+import com.sportsevents.index.EventCatalogLoader;
+import com.sportsevents.index.VenueGeoIndexLoader;
+import com.sportsevents.model.Category;
+import com.sportsevents.model.Event;
+import com.sportsevents.model.Venue;
+import com.sportsevents.service.CatalogChange;
+import com.sportsevents.service.CatalogVersionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the per-node catalogue caches coherent across backend instances. Committed changes are
+ * batched for {@code batch-interval-ms}, numbered and broadcast; receivers apply each change as
+ * the writing node did locally: clear the method cache region, evict second-level cache entries,
+ * bump the ETag versions and refresh the event catalogue.
+ * Heartbeats carry the sender's latest sequence number, so a receiver that missed a batch notices
+ * the gap within one heartbeat and resyncs by invalidating everything it holds.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnExpression("'${sportsevents.cluster.transport:none}' != 'none'")
+public class ClusterInvalidationBus {
+    
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationBus.class);
+    
+    private static final List<String> CATALOG_CACHES = List.of("events", "categories", "venues");
+    
+    @Autowired
+    private ClusterTransport transport;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private EventCatalogLoader eventCatalogLoader;
+    
+    @Autowired
+    private VenueGeoIndexLoader venueGeoIndexLoader;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.cluster.heartbeat-interval-ms:1000}")
+    private long heartbeatIntervalMs;
+    
+    private final UUID node = UUID.randomUUID();
+    
+    private final Set<CatalogChange> pending = new LinkedHashSet<>();
+    
+    private final Map<UUID, Peer> peers = new ConcurrentHashMap<>();
+    
+    private long sequence;
+    
+    private long lastSentAt;
+    
+    private Counter sentCounter;
+    
+    private Counter receivedCounter;
+    
+    private Counter resyncCounter;
+    
+    private record Peer(long sequence, long lastHeardAt) {
+    }
+    
+    @PostConstruct
+    void start() {
+        sentCounter = Counter.builder("cluster.invalidations.sent")
+                .description("Catalogue changes broadcast to other nodes")
+                .register(meterRegistry);
+        receivedCounter = Counter.builder("cluster.invalidations.received")
+                .description("Catalogue changes applied from other nodes")
+                .register(meterRegistry);
+        resyncCounter = Counter.builder("cluster.resyncs")
+                .description("Full cache invalidations after missed messages from another node")
+                .register(meterRegistry);
+        Gauge.builder("cluster.peers", peers, Map::size)
+                .description("Nodes heard from within the peer timeout")
+                .register(meterRegistry);
+        transport.start(this::receive);
+        log.info("Cluster invalidation bus started as node {}", node);
+    }
+    
+    /**
+     * Queue a change committed on this node for the next batch
+     */
+    @EventListener
+    public void onChange(CatalogChange change) {
+        synchronized (pending) {
+            pending.add(change);
+        }
+    }
+    
+    /**
+     * Broadcast queued changes as one batch, or a heartbeat when nothing changed for a while
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.cluster.batch-interval-ms:50}")
+    public synchronized void flush() {
+        List<CatalogChange> changes;
+        synchronized (pending) {
+            changes = new ArrayList<>(pending);
+            pending.clear();
+        }
+        long now = System.currentTimeMillis();
+        if (changes.isEmpty() && now - lastSentAt < heartbeatIntervalMs) {
+            return;
+        }
+        if (changes.size() > InvalidationMessage.MAX_CHANGES) {
+            changes = List.of(new CatalogChange(CatalogChange.Type.ALL, 0));
+        }
+        if (!changes.isEmpty()) {
+            sequence++;
+        }
+        transport.send(new InvalidationMessage(node, sequence, changes).toBytes());
+        sentCounter.increment(changes.size());
+        lastSentAt = now;
+        // Nodes that stopped sending heartbeats have left; a restarted node comes back under a new id
+        peers.values().removeIf(peer -> now - peer.lastHeardAt() > heartbeatIntervalMs * 10);
+    }
+    
+    void receive(byte[] bytes) {
+        InvalidationMessage message = InvalidationMessage.fromBytes(bytes);
+        if (message.node().equals(node)) {
+            return;
+        }
+        Peer peer = peers.get(message.node());
+        long now = System.currentTimeMillis();
+        if (peer == null) {
+            // First contact: changes the sender made before this node started are already in the database
+            peers.put(message.node(), new Peer(message.sequence(), now));
+            apply(message.changes());
+            return;
+        }
+        long expected = peer.sequence() + (message.changes().isEmpty() ? 0 : 1);
+        if (message.sequence() < expected) {
+            // Duplicate or reordered batch already covered
+            peers.put(message.node(), new Peer(peer.sequence(), now));
+            return;
+        }
+        peers.put(message.node(), new Peer(message.sequence(), now));
+        if (message.sequence() > expected) {
+            log.warn("Missed cache invalidations {}..{} from node {}, resyncing", peer.sequence() + 1,
+                    message.sequence(), message.node());
+            resyncCounter.increment();
+            apply(List.of(new CatalogChange(CatalogChange.Type.ALL, 0)));
+        } else {
+            apply(message.changes());
+        }
+    }
+    
+    private void apply(List<CatalogChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Cache secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        boolean reloadCatalog = false;
+        boolean reloadGeoIndex = false;
+        for (CatalogChange change : changes) {
+            switch (change.type()) {
+                case EVENT -> {
+                    clear("events");
+                    secondLevelCache.evictEntityData(Event.class, change.id());
+                    secondLevelCache.evictCollectionData(Category.class.getName() + ".events");
+                    secondLevelCache.evictCollectionData(Venue.class.getName() + ".events");
+                    reloadCatalog = true;
+                }
+                case CATEGORIES -> {
+                    clear("categories");
+                    secondLevelCache.evictEntityData(Category.class);
+                }
+                case VENUES -> {
+                    clear("venues");
+                    secondLevelCache.evictEntityData(Venue.class);
+                    // Events are indexed under their venue's location
+                    reloadCatalog = true;
+                    reloadGeoIndex = true;
+                }
+                case ALL -> {
+                    CATALOG_CACHES.forEach(this::clear);
+                    secondLevelCache.evictAllRegions();
+                    reloadCatalog = true;
+                    reloadGeoIndex = true;
+                }
+                case EVENT_BOOKINGS -> {
+                    // Only the event's ETag version changes, as on the writing node
+                }
+            }
+            catalogVersionService.applyRemote(change);
+            receivedCounter.increment();
+        }
+        if (reloadCatalog) {
+            eventCatalogLoader.load();
+        }
+        if (reloadGeoIndex) {
+            venueGeoIndexLoader.load();
+        }
+    }
+    
+    private void clear(String name) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
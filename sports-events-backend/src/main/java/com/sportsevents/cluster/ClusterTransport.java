@@ -0,0 +1,20 @@
+package com.sportsevents.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Best-effort broadcast of small messages to the other backend nodes. Delivery may drop,
+ * duplicate or reorder messages; {@link ClusterInvalidationBus} detects gaps by sequence number.
+ */
+public interface ClusterTransport {
+    
+    /**
+     * Start delivering messages from other nodes to the receiver; may also deliver this node's own messages
+     */
+    void start(Consumer<byte[]> receiver);
+    
+    /**
+     * Send a message to every other node
+     */
+    void send(byte[] message);
+}
@@ -0,0 +1,76 @@
+package com.sportsevents.cluster;
+
+import com.sportsevents.service.CatalogChange;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One batch of catalogue changes from a node, numbered per sender. A message without changes
+ * is a heartbeat carrying the sender's latest sequence number.
+ * Encoded as a fixed header and 9 bytes per change, so a full batch fits one UDP datagram.
+ */
+public record InvalidationMessage(UUID node, long sequence, List<CatalogChange> changes) {
+    
+    private static final int MAGIC = 0x53454356;
+    
+    private static final byte VERSION = 1;
+    
+    // Larger batches are collapsed into a single ALL change by the sender
+    static final int MAX_CHANGES = 128;
+    
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + changes.size() * 9);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(node.getMostSignificantBits());
+            out.writeLong(node.getLeastSignificantBits());
+            out.writeLong(sequence);
+            out.writeShort(changes.size());
+            for (CatalogChange change : changes) {
+                out.writeByte(change.type().ordinal());
+                out.writeLong(change.id());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    /**
+     * Decode a message, rejecting anything not written by {@link #toBytes()}
+     */
+    public static InvalidationMessage fromBytes(byte[] message) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Not a cache invalidation message");
+            }
+            UUID node = new UUID(in.readLong(), in.readLong());
+            long sequence = in.readLong();
+            int count = in.readUnsignedShort();
+            if (count > MAX_CHANGES) {
+                throw new IllegalArgumentException("Too many changes in invalidation message: " + count);
+            }
+            CatalogChange.Type[] types = CatalogChange.Type.values();
+            List<CatalogChange> changes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int type = in.readUnsignedByte();
+                if (type >= types.length) {
+                    throw new IllegalArgumentException("Unknown change type " + type);
+                }
+                changes.add(new CatalogChange(types[type], in.readLong()));
+            }
+            return new InvalidationMessage(node, sequence, changes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated cache invalidation message", e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.sportsevents.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Base64;
+import java.util.function.Consumer;
+
+/**
+ * Broadcast through PostgreSQL LISTEN/NOTIFY on the primary database every node already shares.
+ * Messages are sent as base64 NOTIFY payloads; a dedicated connection outside the pool listens.
+ * Notifications sent while the listener is reconnecting are lost, which the bus repairs with a resync.
+ */
+@Component
+@ConditionalOnProperty(name = "sportsevents.cluster.transport", havingValue = "postgres")
+public class PostgresClusterTransport implements ClusterTransport {
+    
+    private static final Logger log = LoggerFactory.getLogger(PostgresClusterTransport.class);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+    
+    @Value("${sportsevents.cluster.postgres.channel:sportsevents_cache}")
+    private String channel;
+    
+    @Value("${sportsevents.cluster.postgres.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+    
+    private volatile boolean running;
+    
+    private Thread listener;
+    
+    @Override
+    public synchronized void start(Consumer<byte[]> receiver) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid NOTIFY channel name " + channel);
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("cluster-pg-listen").daemon().start(() -> {
+            while (running) {
+                try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                    while (running) {
+                        PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                        if (notifications == null) {
+                            continue;
+                        }
+                        for (PGNotification notification : notifications) {
+                            deliver(receiver, notification.getParameter());
+                        }
+                    }
+                } catch (SQLException e) {
+                    if (running) {
+                        log.warn("Cluster LISTEN connection failed, reconnecting", e);
+                        sleepBeforeReconnect();
+                    }
+                }
+            }
+        });
+        log.info("Cluster invalidation over PostgreSQL channel {}", channel);
+    }
+    
+    @Override
+    public void send(byte[] message) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, Base64.getEncoder().encodeToString(message));
+    }
+    
+    private void deliver(Consumer<byte[]> receiver, String payload) {
+        try {
+            receiver.accept(Base64.getDecoder().decode(payload));
+        } catch (RuntimeException e) {
+            log.warn("Dropping cluster message", e);
+        }
+    }
+    
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+    
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (listener != null) {
+            listener.join(pollTimeoutMs + 1000L);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sportsevents.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Unicast UDP mesh: every message is sent as one datagram to each configured peer.
+ * All nodes can share one peer list; datagrams a node sends to itself are ignored by the bus.
+ */
+@Component
+@ConditionalOnProperty(name = "sportsevents.cluster.transport", havingValue = "udp")
+public class UdpClusterTransport implements ClusterTransport {
+    
+    private static final Logger log = LoggerFactory.getLogger(UdpClusterTransport.class);
+    
+    private static final int MAX_DATAGRAM = 2048;
+    
+    @Value("${sportsevents.cluster.udp.port:7600}")
+    private int port;
+    
+    // host:port of every node
+    @Value("${sportsevents.cluster.udp.peers:}")
+    private List<String> peers;
+    
+    private DatagramSocket socket;
+    
+    private Thread listener;
+    
+    @Override
+    public synchronized void start(Consumer<byte[]> receiver) {
+        try {
+            socket = new DatagramSocket(port);
+        } catch (SocketException e) {
+            throw new UncheckedIOException("Cannot bind cluster UDP port " + port, e);
+        }
+        listener = Thread.ofPlatform().name("cluster-udp").daemon().start(() -> {
+            byte[] buffer = new byte[MAX_DATAGRAM];
+            while (!socket.isClosed()) {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                try {
+                    socket.receive(packet);
+                    receiver.accept(Arrays.copyOf(packet.getData(), packet.getLength()));
+                } catch (IOException e) {
+                    if (!socket.isClosed()) {
+                        log.warn("Cluster UDP receive failed", e);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Dropping cluster message", e);
+                }
+            }
+        });
+        log.info("Cluster invalidation over UDP port {} with peers {}", port, peers);
+    }
+    
+    @Override
+    public void send(byte[] message) {
+        for (String peer : peers) {
+            int colon = peer.lastIndexOf(':');
+            // Resolved per send so peers that come up later, or change address, are reached
+            InetSocketAddress address = new InetSocketAddress(peer.substring(0, colon).trim(),
+                    Integer.parseInt(peer.substring(colon + 1).trim()));
+            if (address.isUnresolved()) {
+                log.debug("Cannot resolve cluster peer {}", peer);
+                continue;
+            }
+            try {
+                socket.send(new DatagramPacket(message, message.length, address));
+            } catch (IOException e) {
+                log.debug("Cannot send cluster message to {}", peer, e);
+            }
+        }
+    }
+    
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (socket != null) {
+            socket.close();
+            listener.join(1000);
+        }
+    }
+}
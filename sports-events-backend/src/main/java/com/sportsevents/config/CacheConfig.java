@@ -0,0 +1,21 @@
+package com.sportsevents.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+
+/**
+ * Cache configuration sharing one JCache (Ehcache) manager between
+ * Spring's method cache and the Hibernate second-level cache
+ */
+@Configuration
+public class CacheConfig {
+    
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager cacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+}
@@ -90,6 +90,8 @@ public class DataInitializer implements CommandLineRunner {
             venue1.setState("Karnataka");
             venue1.setCountry("India");
             venue1.setPostalCode("560001");
+            venue1.setLatitude(12.9698);
+            venue1.setLongitude(77.5933);
             venue1.setCapacity(8000);
             venue1.setImageUrl("https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=500");
             venue1.setDescription("Modern indoor stadium with excellent facilities");
@@ -100,6 +102,8 @@ public class DataInitializer implements CommandLineRunner {
             venue2.setState("Karnataka");
             venue2.setCountry("India");
             venue2.setPostalCode("560001");
+            venue2.setLatitude(12.9763);
+            venue2.setLongitude(77.5929);
             venue2.setCapacity(2000);
             venue2.setImageUrl("https://images.unsplash.com/photo-1441974231531-c6227db76b6e?w=500");
             venue2.setDescription("Beautiful park setting for outdoor events");
@@ -110,6 +114,8 @@ public class DataInitializer implements CommandLineRunner {
             venue3.setState("Karnataka");
             venue3.setCountry("India");
             venue3.setPostalCode("560004");
+            venue3.setLatitude(12.9507);
+            venue3.setLongitude(77.5848);
             venue3.setCapacity(1500);
             venue3.setImageUrl("https://images.unsplash.com/photo-1416879595882-3373a0480b5b?w=500");
             venue3.setDescription("Scenic botanical garden for nature events");
@@ -120,6 +126,8 @@ public class DataInitializer implements CommandLineRunner {
             venue4.setState("Karnataka");
             venue4.setCountry("India");
             venue4.setPostalCode("560083");
+            venue4.setLatitude(12.9299);
+            venue4.setLongitude(77.6848);
             venue4.setCapacity(3000);
             venue4.setImageUrl("https://images.unsplash.com/photo-1441974231531-c6227db76b6e?w=500");
             venue4.setDescription("Eco-friendly venue with modern amenities");
@@ -0,0 +1,86 @@
+package com.sportsevents.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Primary/replica DataSource routing for read-only transactions.
+ * Read methods in the services are marked {@code @Transactional(readOnly = true)}, which
+ * also makes Spring put the Hibernate session in manual flush and read-only mode, so no
+ * dirty-checking snapshots are kept. The lazy connection proxy defers connection checkout
+ * until the first statement, after the transaction's read-only flag is known.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sportsevents.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    @ConfigurationProperties("sportsevents.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${sportsevents.datasource.replica.url}") String url,
+            @Value("${sportsevents.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${sportsevents.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+    
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+    
+    @Bean
+    @Lazy(false)
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${sportsevents.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${sportsevents.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, replicaDataSource, lagQuery, maxLagMs, meterRegistry);
+    }
+}
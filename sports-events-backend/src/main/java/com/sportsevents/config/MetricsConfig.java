@@ -0,0 +1,35 @@
+package com.sportsevents.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * Metrics configuration: {@code @Timed} support for services and JDBC repositories,
+ * and JCache statistics for every Ehcache region, Hibernate second-level regions included
+ */
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+    
+    @Bean
+    public MeterBinder jcacheRegionMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = cacheManager.getCache(name);
+                JCacheMetrics.monitor(registry, cache, Tags.of("cacheManager", "jcache"));
+            }
+        };
+    }
+}
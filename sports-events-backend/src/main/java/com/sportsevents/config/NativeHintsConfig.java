@@ -0,0 +1,69 @@
+package com.sportsevents.config;
+
+import com.sportsevents.dto.EventResponse;
+import com.sportsevents.dto.FacetCounts;
+import com.sportsevents.dto.NearbyEvent;
+import com.sportsevents.dto.PaymentCallback;
+import com.sportsevents.dto.StatsSeries;
+import com.sportsevents.index.EventFacets;
+import com.sportsevents.model.Booking;
+import com.sportsevents.model.Category;
+import com.sportsevents.model.Event;
+import com.sportsevents.model.User;
+import com.sportsevents.model.Venue;
+import com.sportsevents.reminder.Reminder;
+import com.sportsevents.service.CategoryService;
+import com.sportsevents.service.EventService;
+import com.sportsevents.service.VenueService;
+import com.sportsevents.stats.BookingStatRow;
+import com.sportsevents.warmup.HotKeyManifest;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * GraalVM native-image hints for what Spring AOT cannot infer on its own.
+ * Entities, repositories and cache proxies are handled by AOT processing; this adds
+ * the JSON bindings of controller responses, JPQL constructor results and the
+ * Ehcache configuration resources.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.SportsEventsRuntimeHints.class)
+@RegisterReflectionForBinding({
+        Event.class, Category.class, Venue.class, Booking.class, User.class,
+        EventResponse.class, FacetCounts.class, NearbyEvent.class, StatsSeries.class, PaymentCallback.class,
+        PageImpl.class, PageRequest.class, Sort.class, Sort.Order.class, HotKeyManifest.class})
+public class NativeHintsConfig {
+    
+    static class SportsEventsRuntimeHints implements RuntimeHintsRegistrar {
+        
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Results of "SELECT new ..." queries are instantiated reflectively by Hibernate
+            hints.reflection().registerType(BookingStatRow.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(EventFacets.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(Reminder.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            
+            // Selected by name through hibernate.cache.region.factory_class
+            hints.reflection().registerType(JCacheRegionFactory.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            
+            // Cached service methods named in the hot key manifest are replayed reflectively
+            for (Class<?> service : new Class<?>[] {EventService.class, VenueService.class, CategoryService.class}) {
+                hints.reflection().registerType(service, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            
+            // spring.cache.jcache.config and the schemas Ehcache validates it against
+            hints.resources().registerPattern("ehcache.xml");
+            hints.resources().registerPattern("ehcache-core.xsd");
+            hints.resources().registerPattern("ehcache-107-ext.xsd");
+            hints.resources().registerPattern("ehcache-multi.xsd");
+        }
+    }
+}
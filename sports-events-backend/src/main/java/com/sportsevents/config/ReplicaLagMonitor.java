@@ -0,0 +1,78 @@
+package com.sportsevents.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically measures replica lag and takes the replica out of rotation
+ * when it is unreachable or further behind than the configured threshold
+ */
+public class ReplicaLagMonitor {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    
+    private final ReplicaRoutingDataSource routingDataSource;
+    
+    private final JdbcTemplate replicaJdbcTemplate;
+    
+    private final String lagQuery;
+    
+    private final long maxLagMs;
+    
+    private final AtomicLong lastLagMs = new AtomicLong();
+    
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, DataSource replicaDataSource,
+                             String lagQuery, long maxLagMs, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+        
+        Gauge.builder("datasource.replica.lag", lastLagMs, AtomicLong::get)
+                .description("Replica lag in milliseconds at the last check, -1 when unreachable")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.active", routingDataSource, ds -> ds.isReplicaAvailable() ? 1 : 0)
+                .description("1 when read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Check replica lag and update routing
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.datasource.replica.check-interval-ms:2000}")
+    public void checkLag() {
+        long lagMs;
+        try {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                replicaJdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                lagMs = 0;
+            } else {
+                Number lag = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+                lagMs = lag != null ? lag.longValue() : 0;
+            }
+        } catch (RuntimeException e) {
+            lagMs = -1;
+            log.debug("Replica lag check failed", e);
+        }
+        lastLagMs.set(lagMs);
+        
+        boolean healthy = lagMs >= 0 && lagMs <= maxLagMs;
+        if (healthy != routingDataSource.isReplicaAvailable()) {
+            routingDataSource.setReplicaAvailable(healthy);
+            if (healthy) {
+                log.info("Replica lag {} ms is within {} ms, routing read-only transactions to replica", lagMs, maxLagMs);
+            } else {
+                log.warn("Replica lag {} ms exceeds {} ms or replica unreachable, routing reads to primary", lagMs, maxLagMs);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sportsevents.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing DataSource that sends read-only transactions to the replica pool
+ * while the replica is healthy, and everything else to the primary
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+    
+    private volatile boolean replicaAvailable = true;
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+    
+    public boolean isReplicaAvailable() { return replicaAvailable; }
+    public void setReplicaAvailable(boolean replicaAvailable) { this.replicaAvailable = replicaAvailable; }
+}
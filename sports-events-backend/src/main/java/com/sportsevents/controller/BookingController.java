@@ -1,15 +1,20 @@
 package com.sportsevents.controller;
 
+import com.sportsevents.dto.PaymentCallback;
 import com.sportsevents.model.Booking;
 import com.sportsevents.service.BookingService;
+import com.sportsevents.service.PaymentWebhookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +33,9 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
     
+    @Autowired
+    private PaymentWebhookService paymentWebhookService;
+    
     /**
      * Create new booking
      */
@@ -132,6 +140,22 @@ public class BookingController {
         }
     }
     
+    /**
+     * Ingest payment gateway callbacks
+     */
+    @PostMapping("/payment-callbacks")
+    @Operation(summary = "Ingest payment callbacks", description = "Queue payment gateway callbacks for batched processing; repeated callbacks for a booking are deduplicated")
+    public ResponseEntity<Integer> ingestPaymentCallbacks(@RequestBody List<@Valid PaymentCallback> callbacks) {
+        int accepted = paymentWebhookService.enqueueAll(callbacks);
+        if (accepted < callbacks.size()) {
+            // Buffer is full; the gateway retries the whole delivery, which is safe because updates are idempotent
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(accepted);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+    }
+    
     /**
      * Cancel booking
      */
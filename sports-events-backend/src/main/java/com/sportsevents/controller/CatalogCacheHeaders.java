@@ -0,0 +1,77 @@
+package com.sportsevents.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cache-Control policies for the catalogue endpoints.
+ * Catalogue data is the same for every caller, so responses are marked public and
+ * shared caches may serve them stale while they revalidate with the ETag.
+ */
+@Component
+public class CatalogCacheHeaders {
+    
+    @Value("${sportsevents.http-cache.listing.max-age-seconds:30}")
+    private long listingMaxAge;
+    
+    @Value("${sportsevents.http-cache.listing.stale-while-revalidate-seconds:60}")
+    private long listingStaleWhileRevalidate;
+    
+    @Value("${sportsevents.http-cache.event.max-age-seconds:5}")
+    private long eventMaxAge;
+    
+    @Value("${sportsevents.http-cache.event.stale-while-revalidate-seconds:30}")
+    private long eventStaleWhileRevalidate;
+    
+    @Value("${sportsevents.http-cache.reference.max-age-seconds:300}")
+    private long referenceMaxAge;
+    
+    @Value("${sportsevents.http-cache.reference.stale-while-revalidate-seconds:3600}")
+    private long referenceStaleWhileRevalidate;
+    
+    /**
+     * Event listings, searches and facet counts
+     */
+    public CacheControl listing() {
+        return policy(listingMaxAge, listingStaleWhileRevalidate);
+    }
+    
+    /**
+     * A single event, whose participant count changes with every booking
+     */
+    public CacheControl event() {
+        return policy(eventMaxAge, eventStaleWhileRevalidate);
+    }
+    
+    /**
+     * Categories and cities, which rarely change
+     */
+    public CacheControl reference() {
+        return policy(referenceMaxAge, referenceStaleWhileRevalidate);
+    }
+    
+    /**
+     * 304 response for a conditional request; {@code WebRequest.checkNotModified} has already set the ETag
+     */
+    public <T> ResponseEntity<T> notModified(CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+    }
+    
+    /**
+     * 200 response carrying the tag the body was read under
+     */
+    public <T> ResponseEntity<T> ok(T body, String etag, CacheControl cacheControl) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body);
+    }
+    
+    private static CacheControl policy(long maxAgeSeconds, long staleWhileRevalidateSeconds) {
+        return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds))
+                .cachePublic();
+    }
+}
@@ -1,12 +1,14 @@
 package com.sportsevents.controller;
 
 import com.sportsevents.model.Category;
+import com.sportsevents.service.CatalogVersionService;
 import com.sportsevents.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,14 +25,25 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
     
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private CatalogCacheHeaders catalogCacheHeaders;
+    
     /**
      * Get all categories
      */
     @GetMapping
     @Operation(summary = "Get all categories", description = "Retrieve all available event categories")
-    public ResponseEntity<List<Category>> getAllCategories() {
+    public ResponseEntity<List<Category>> getAllCategories(WebRequest request) {
+        String etag = catalogVersionService.categoriesTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.reference());
+        }
+        
         List<Category> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        return catalogCacheHeaders.ok(categories, etag, catalogCacheHeaders.reference());
     }
     
     /**
@@ -1,6 +1,12 @@
 package com.sportsevents.controller;
 
+import com.sportsevents.dto.FacetCounts;
+import com.sportsevents.dto.NearbyEvent;
+import com.sportsevents.index.Facet;
+import com.sportsevents.index.FacetFilter;
+import com.sportsevents.index.PriceBand;
 import com.sportsevents.model.Event;
+import com.sportsevents.service.CatalogVersionService;
 import com.sportsevents.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,8 +18,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +37,12 @@ public class EventController {
     @Autowired
     private EventService eventService;
     
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private CatalogCacheHeaders catalogCacheHeaders;
+    
     /**
      * Get all active events with open registration
      */
@@ -38,7 +52,13 @@ public class EventController {
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "12") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "eventDate") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
         
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
@@ -46,7 +66,7 @@ public class EventController {
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<Event> events = eventService.getActiveEventsWithOpenRegistration(pageable);
         
-        return ResponseEntity.ok(events);
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
     }
     
     /**
@@ -54,9 +74,14 @@ public class EventController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get event by ID", description = "Retrieve a specific event by its ID")
-    public ResponseEntity<Event> getEventById(@PathVariable Long id) {
+    public ResponseEntity<Event> getEventById(@PathVariable Long id, WebRequest request) {
+        String etag = catalogVersionService.eventTag(id);
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.event());
+        }
+        
         Optional<Event> event = eventService.getEventById(id);
-        return event.map(ResponseEntity::ok)
+        return event.map(found -> catalogCacheHeaders.ok(found, etag, catalogCacheHeaders.event()))
                    .orElse(ResponseEntity.notFound().build());
     }
     
@@ -68,12 +93,18 @@ public class EventController {
     public ResponseEntity<Page<Event>> getEventsByCategory(
             @PathVariable Long categoryId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
         Page<Event> events = eventService.getEventsByCategory(categoryId, pageable);
         
-        return ResponseEntity.ok(events);
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
     }
     
     /**
@@ -84,12 +115,18 @@ public class EventController {
     public ResponseEntity<Page<Event>> getEventsByCity(
             @PathVariable String city,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
         Page<Event> events = eventService.getEventsByCity(city, pageable);
         
-        return ResponseEntity.ok(events);
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
     }
     
     /**
@@ -100,12 +137,18 @@ public class EventController {
     public ResponseEntity<Page<Event>> getEventsByType(
             @PathVariable Event.EventType eventType,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
         Page<Event> events = eventService.getEventsByType(eventType, pageable);
         
-        return ResponseEntity.ok(events);
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
     }
     
     /**
@@ -116,11 +159,88 @@ public class EventController {
     public ResponseEntity<Page<Event>> searchEvents(
             @Parameter(description = "Search term") @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
         Page<Event> events = eventService.searchEvents(q, pageable);
         
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
+    }
+    
+    /**
+     * Filter events by facets
+     */
+    @GetMapping("/filter")
+    @Operation(summary = "Filter events", description = "Filter active events by category, city, type, difficulty, price band and month; values of one facet are OR-ed, facets are AND-ed")
+    public ResponseEntity<Page<Event>> filterEvents(
+            @Parameter(description = "Category IDs") @RequestParam(required = false) List<Long> categoryId,
+            @Parameter(description = "Venue cities") @RequestParam(required = false) List<String> city,
+            @Parameter(description = "Event types") @RequestParam(required = false) List<Event.EventType> eventType,
+            @Parameter(description = "Difficulty levels") @RequestParam(required = false) List<Event.DifficultyLevel> difficulty,
+            @Parameter(description = "Price bands") @RequestParam(required = false) List<PriceBand> priceBand,
+            @Parameter(description = "Event months (yyyy-MM)") @RequestParam(required = false) List<YearMonth> month,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
+        
+        FacetFilter filter = buildFacetFilter(categoryId, city, eventType, difficulty, priceBand, month);
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
+        Page<Event> events = eventService.filterEvents(filter, pageable);
+        
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
+    }
+    
+    /**
+     * Get facet counts
+     */
+    @GetMapping("/facets")
+    @Operation(summary = "Get facet counts", description = "Count active events per category, city, type, difficulty, price band and month under the current filter selection")
+    public ResponseEntity<FacetCounts> getFacetCounts(
+            @Parameter(description = "Category IDs") @RequestParam(required = false) List<Long> categoryId,
+            @Parameter(description = "Venue cities") @RequestParam(required = false) List<String> city,
+            @Parameter(description = "Event types") @RequestParam(required = false) List<Event.EventType> eventType,
+            @Parameter(description = "Difficulty levels") @RequestParam(required = false) List<Event.DifficultyLevel> difficulty,
+            @Parameter(description = "Price bands") @RequestParam(required = false) List<PriceBand> priceBand,
+            @Parameter(description = "Event months (yyyy-MM)") @RequestParam(required = false) List<YearMonth> month,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
+        
+        FacetFilter filter = buildFacetFilter(categoryId, city, eventType, difficulty, priceBand, month);
+        return catalogCacheHeaders.ok(eventService.getFacetCounts(filter), etag, catalogCacheHeaders.listing());
+    }
+    
+    /**
+     * Get upcoming events near a location
+     */
+    @GetMapping("/nearby")
+    @Operation(summary = "Get events near a location", description = "Retrieve upcoming events at venues within a radius, sorted by distance")
+    public ResponseEntity<List<NearbyEvent>> getEventsNearby(
+            @Parameter(description = "Latitude") @RequestParam double lat,
+            @Parameter(description = "Longitude") @RequestParam double lng,
+            @Parameter(description = "Search radius in kilometres") @RequestParam(defaultValue = "10") double radiusKm,
+            @Parameter(description = "Maximum number of events") @RequestParam(defaultValue = "50") int limit) {
+        
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180 || radiusKm <= 0 || radiusKm > 500 || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        List<NearbyEvent> events = eventService.getEventsNearby(lat, lng, radiusKm, Math.min(limit, 200));
         return ResponseEntity.ok(events);
     }
     
@@ -131,12 +251,38 @@ public class EventController {
     @Operation(summary = "Get events with available slots", description = "Retrieve events that still have available slots")
     public ResponseEntity<Page<Event>> getEventsWithAvailableSlots(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size) {
+            @RequestParam(defaultValue = "12") int size,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.eventListingTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
         Page<Event> events = eventService.getEventsWithAvailableSlots(pageable);
         
-        return ResponseEntity.ok(events);
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
+    }
+    
+    /**
+     * Get the most viewed upcoming events
+     */
+    @GetMapping("/popular")
+    @Operation(summary = "Get popular events", description = "Retrieve upcoming events ranked by page views")
+    public ResponseEntity<Page<Event>> getPopularEvents(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size,
+            WebRequest request) {
+        
+        String etag = catalogVersionService.popularTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.listing());
+        }
+        
+        Page<Event> events = eventService.getPopularEvents(PageRequest.of(page, size));
+        
+        return catalogCacheHeaders.ok(events, etag, catalogCacheHeaders.listing());
     }
     
     /**
@@ -194,4 +340,16 @@ public class EventController {
         long totalEvents = eventService.getTotalActiveEvents();
         return ResponseEntity.ok(totalEvents);
     }
+    
+    private FacetFilter buildFacetFilter(List<Long> categoryId, List<String> city, List<Event.EventType> eventType,
+                                         List<Event.DifficultyLevel> difficulty, List<PriceBand> priceBand,
+                                         List<YearMonth> month) {
+        return new FacetFilter()
+                .with(Facet.CATEGORY, categoryId)
+                .with(Facet.CITY, city)
+                .with(Facet.EVENT_TYPE, eventType)
+                .with(Facet.DIFFICULTY, difficulty)
+                .with(Facet.PRICE_BAND, priceBand)
+                .with(Facet.MONTH, month);
+    }
 }
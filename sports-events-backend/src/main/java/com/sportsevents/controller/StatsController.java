@@ -0,0 +1,67 @@
+package com.sportsevents.controller;
+
+import com.sportsevents.dto.StatsSeries;
+import com.sportsevents.service.BookingStatsService;
+import com.sportsevents.stats.StatScope;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for booking statistics
+ */
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Statistics", description = "API for rolling booking statistics")
+@CrossOrigin(origins = "*")
+public class StatsController {
+    
+    @Autowired
+    private BookingStatsService bookingStatsService;
+    
+    /**
+     * Get platform-wide statistics
+     */
+    @GetMapping
+    @Operation(summary = "Get platform statistics", description = "Daily bookings, cancellations and payment outcomes across all events")
+    public ResponseEntity<StatsSeries> getPlatformStats(
+            @Parameter(description = "Window length in days") @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(bookingStatsService.getSeries(StatScope.ALL, "", days));
+    }
+    
+    /**
+     * Get statistics for an event
+     */
+    @GetMapping("/events/{eventId}")
+    @Operation(summary = "Get event statistics", description = "Daily bookings, cancellations and payment outcomes for one event")
+    public ResponseEntity<StatsSeries> getEventStats(
+            @PathVariable Long eventId,
+            @Parameter(description = "Window length in days") @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(bookingStatsService.getSeries(StatScope.EVENT, eventId.toString(), days));
+    }
+    
+    /**
+     * Get statistics for a category
+     */
+    @GetMapping("/categories/{categoryId}")
+    @Operation(summary = "Get category statistics", description = "Daily bookings, cancellations and payment outcomes for events in a category")
+    public ResponseEntity<StatsSeries> getCategoryStats(
+            @PathVariable Long categoryId,
+            @Parameter(description = "Window length in days") @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(bookingStatsService.getSeries(StatScope.CATEGORY, categoryId.toString(), days));
+    }
+    
+    /**
+     * Get statistics for a city
+     */
+    @GetMapping("/cities/{city}")
+    @Operation(summary = "Get city statistics", description = "Daily bookings, cancellations and payment outcomes for events in a city")
+    public ResponseEntity<StatsSeries> getCityStats(
+            @PathVariable String city,
+            @Parameter(description = "Window length in days") @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(bookingStatsService.getSeries(StatScope.CITY, city, days));
+    }
+}
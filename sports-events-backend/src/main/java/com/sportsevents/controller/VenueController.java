@@ -1,6 +1,7 @@
 package com.sportsevents.controller;
 
 import com.sportsevents.model.Venue;
+import com.sportsevents.service.CatalogVersionService;
 import com.sportsevents.service.VenueService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +30,12 @@ public class VenueController {
     @Autowired
     private VenueService venueService;
     
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private CatalogCacheHeaders catalogCacheHeaders;
+    
     /**
      * Get all venues with pagination
      */
@@ -63,9 +71,14 @@ public class VenueController {
      */
     @GetMapping("/cities")
     @Operation(summary = "Get all cities", description = "Retrieve list of all cities with venues")
-    public ResponseEntity<List<String>> getAllCities() {
+    public ResponseEntity<List<String>> getAllCities(WebRequest request) {
+        String etag = catalogVersionService.venuesTag();
+        if (request.checkNotModified(etag)) {
+            return catalogCacheHeaders.notModified(catalogCacheHeaders.reference());
+        }
+        
         List<String> cities = venueService.getAllCities();
-        return ResponseEntity.ok(cities);
+        return catalogCacheHeaders.ok(cities, etag, catalogCacheHeaders.reference());
     }
     
     /**
@@ -0,0 +1,13 @@
+package com.sportsevents.dto;
+
+import com.sportsevents.model.Booking;
+
+import java.math.BigDecimal;
+
+/**
+ * A booking's state after a payment callback was applied to it
+ */
+public record BookingPaymentState(long bookingId, Long userId, Long eventId, Booking.BookingStatus bookingStatus,
+                                  Booking.PaymentStatus paymentStatus, String paymentReference,
+                                  BigDecimal totalAmount) {
+}
@@ -0,0 +1,11 @@
+package com.sportsevents.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.sportsevents.model.Event;
+
+/**
+ * An event as written to API responses: its fields plus its view count. Keeps the count off the
+ * entity, whose instances are shared through the events cache.
+ */
+public record EventResponse(@JsonUnwrapped Event event, long viewCount) {
+}
@@ -0,0 +1,9 @@
+package com.sportsevents.dto;
+
+import java.util.Map;
+
+/**
+ * Number of matching events per facet value under the current filter selection
+ */
+public record FacetCounts(long total, Map<String, Map<String, Integer>> facets) {
+}
@@ -0,0 +1,9 @@
+package com.sportsevents.dto;
+
+import com.sportsevents.model.Event;
+
+/**
+ * Event with its venue's distance from the search point
+ */
+public record NearbyEvent(Event event, double distanceKm) {
+}
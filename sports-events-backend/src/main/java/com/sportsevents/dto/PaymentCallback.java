@@ -0,0 +1,13 @@
+package com.sportsevents.dto;
+
+import com.sportsevents.model.Booking;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Payment gateway callback for a single booking
+ */
+public record PaymentCallback(
+        @NotNull(message = "Booking ID is required") Long bookingId,
+        @NotNull(message = "Payment status is required") Booking.PaymentStatus paymentStatus,
+        String paymentReference) {
+}
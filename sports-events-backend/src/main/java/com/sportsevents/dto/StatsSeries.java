@@ -0,0 +1,15 @@
+package com.sportsevents.dto;
+
+import com.sportsevents.stats.StatMetric;
+import com.sportsevents.stats.StatScope;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily booking statistics for one scope over a window; each series has one value per day from {@code from} to {@code to}
+ */
+public record StatsSeries(StatScope scope, String key, LocalDate from, LocalDate to,
+                          Map<StatMetric, Long> totals, Map<StatMetric, List<Long>> series) {
+}
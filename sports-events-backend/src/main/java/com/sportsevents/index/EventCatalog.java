@@ -0,0 +1,230 @@
+package com.sportsevents.index;
+
+import com.sportsevents.dto.FacetCounts;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory catalogue of active events with one compressed bitmap per facet value.
+ * Each event gets a dense document number; filters are evaluated as bitmap unions
+ * within a facet and intersections across facets.
+ */
+@Component
+public class EventCatalog {
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<Long, Integer> docByEventId = new HashMap<>();
+    
+    private final List<EventFacets> docs = new ArrayList<>();
+    
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    
+    private final RoaringBitmap liveDocs = new RoaringBitmap();
+    
+    private final Map<Facet, Map<Object, RoaringBitmap>> postings = new EnumMap<>(Facet.class);
+    
+    // Canonical instances of city, state and country names shared by all documents
+    private final Map<String, String> strings = new HashMap<>();
+    
+    public record CatalogPage(List<Long> eventIds, long total) {}
+    
+    public EventCatalog() {
+        for (Facet facet : Facet.values()) {
+            postings.put(facet, new HashMap<>());
+        }
+    }
+    
+    /**
+     * Insert or replace an event's facet values
+     */
+    public void upsert(EventFacets facets) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByEventId.get(facets.eventId());
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                unindex(doc, docs.get(doc));
+            } else {
+                doc = freeDocs.isEmpty() ? docs.size() : freeDocs.pop();
+                if (doc == docs.size()) {
+                    docs.add(null);
+                }
+                docByEventId.put(facets.eventId(), doc);
+            }
+            
+            EventFacets canonical = facets.withLocation(
+                    intern(facets.city()), intern(facets.state()), intern(facets.country()));
+            docs.set(doc, canonical);
+            liveDocs.add(doc);
+            canonical.facetValues().forEach((facet, value) ->
+                    postings.get(facet).computeIfAbsent(value, v -> new RoaringBitmap()).add(doc));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove an event, its document number is reused by later inserts
+     */
+    public void remove(long eventId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByEventId.remove(eventId);
+            if (doc != null) {
+                unindex(doc, docs.get(doc));
+                docs.set(doc, null);
+                liveDocs.remove(doc);
+                freeDocs.push(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Replace the whole catalogue
+     */
+    public void reload(List<EventFacets> events) {
+        lock.writeLock().lock();
+        try {
+            docByEventId.clear();
+            docs.clear();
+            freeDocs.clear();
+            liveDocs.clear();
+            postings.values().forEach(Map::clear);
+            strings.clear();
+            events.forEach(this::upsert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Number of events in the catalogue
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Matching event ids ordered by event date, sliced to the requested page
+     */
+    public CatalogPage query(FacetFilter filter, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = match(filter.getSelections(), null);
+            List<EventFacets> hits = new ArrayList<>(matches.getCardinality());
+            matches.forEach((int doc) -> hits.add(docs.get(doc)));
+            hits.sort(Comparator
+                    .comparing((EventFacets f) -> f.eventDate() != null ? f.eventDate().toEpochSecond(ZoneOffset.UTC) : Long.MAX_VALUE)
+                    .thenComparing(EventFacets::eventId));
+            
+            List<Long> page = hits.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(EventFacets::eventId)
+                    .toList();
+            return new CatalogPage(page, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Matching event count per facet value.
+     * Each facet is counted against the filter without its own selection, so sibling
+     * values stay visible with the counts they would have if selected instead.
+     */
+    public FacetCounts facetCounts(FacetFilter filter) {
+        lock.readLock().lock();
+        try {
+            Map<Facet, Set<Object>> selections = filter.getSelections();
+            RoaringBitmap matches = match(selections, null);
+            
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                Set<Object> selected = selections.getOrDefault(facet, Set.of());
+                RoaringBitmap base = selected.isEmpty() ? matches : match(selections, facet);
+                
+                List<Map.Entry<Object, Integer>> counts = new ArrayList<>();
+                for (Map.Entry<Object, RoaringBitmap> posting : postings.get(facet).entrySet()) {
+                    int count = RoaringBitmap.andCardinality(base, posting.getValue());
+                    if (count > 0 || selected.contains(posting.getKey())) {
+                        counts.add(Map.entry(posting.getKey(), count));
+                    }
+                }
+                counts.sort(Map.Entry.<Object, Integer>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().toString()));
+                
+                Map<String, Integer> values = new LinkedHashMap<>();
+                counts.forEach(entry -> values.put(entry.getKey().toString(), entry.getValue()));
+                facets.put(facet.getParamName(), values);
+            }
+            return new FacetCounts(matches.getLongCardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Documents matching every selected facet except {@code excluded}; caller holds the read lock
+     */
+    RoaringBitmap match(Map<Facet, Set<Object>> selections, Facet excluded) {
+        RoaringBitmap result = liveDocs.clone();
+        for (Map.Entry<Facet, Set<Object>> selection : selections.entrySet()) {
+            if (selection.getKey() == excluded) {
+                continue;
+            }
+            Map<Object, RoaringBitmap> facetPostings = postings.get(selection.getKey());
+            List<RoaringBitmap> alternatives = new ArrayList<>(selection.getValue().size());
+            for (Object value : selection.getValue()) {
+                RoaringBitmap bitmap = facetPostings.get(value);
+                if (bitmap != null) {
+                    alternatives.add(bitmap);
+                }
+            }
+            result.and(RoaringBitmap.or(alternatives.iterator()));
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private void unindex(int doc, EventFacets facets) {
+        facets.facetValues().forEach((facet, value) -> {
+            Map<Object, RoaringBitmap> facetPostings = postings.get(facet);
+            RoaringBitmap bitmap = facetPostings.get(value);
+            if (bitmap != null) {
+                bitmap.remove(doc);
+                if (bitmap.isEmpty()) {
+                    facetPostings.remove(value);
+                }
+            }
+        });
+    }
+    
+    private String intern(String value) {
+        return value == null ? null : strings.computeIfAbsent(value, v -> v);
+    }
+}
@@ -0,0 +1,36 @@
+package com.sportsevents.index;
+
+import com.sportsevents.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds the event catalogue once the application is ready; later event writes update it incrementally
+ */
+@Component
+public class EventCatalogLoader {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventCatalogLoader.class);
+    
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private EventCatalog eventCatalog;
+    
+    // Loaded ahead of the warm-ups, whose requests read it
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void load() {
+        eventCatalog.reload(eventRepository.findActiveEventFacets());
+        log.info("Event catalogue loaded with {} active events", eventCatalog.size());
+    }
+}
@@ -0,0 +1,69 @@
+package com.sportsevents.index;
+
+import com.sportsevents.model.Event;
+import com.sportsevents.model.Venue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Facet values of one active event, as held by the event catalogue
+ */
+public record EventFacets(
+        Long eventId,
+        Long categoryId,
+        String city,
+        String state,
+        String country,
+        Event.EventType eventType,
+        Event.DifficultyLevel difficultyLevel,
+        BigDecimal price,
+        LocalDateTime eventDate) {
+    
+    /**
+     * Extract facet values from an event; venue and category are resolved through their proxies
+     */
+    public static EventFacets from(Event event) {
+        Venue venue = event.getVenue();
+        return new EventFacets(
+                event.getId(),
+                event.getCategory() != null ? event.getCategory().getId() : null,
+                venue != null ? venue.getCity() : null,
+                venue != null ? venue.getState() : null,
+                venue != null ? venue.getCountry() : null,
+                event.getEventType(),
+                event.getDifficultyLevel(),
+                event.getPrice(),
+                event.getEventDate());
+    }
+    
+    /**
+     * Copy with location strings replaced by their canonical instances
+     */
+    EventFacets withLocation(String city, String state, String country) {
+        return new EventFacets(eventId, categoryId, city, state, country, eventType, difficultyLevel, price, eventDate);
+    }
+    
+    /**
+     * Value of each facet for this event, facets without a value are omitted
+     */
+    Map<Facet, Object> facetValues() {
+        Map<Facet, Object> values = new EnumMap<>(Facet.class);
+        putIfPresent(values, Facet.CATEGORY, categoryId);
+        putIfPresent(values, Facet.CITY, city);
+        putIfPresent(values, Facet.EVENT_TYPE, eventType);
+        putIfPresent(values, Facet.DIFFICULTY, difficultyLevel);
+        values.put(Facet.PRICE_BAND, PriceBand.of(price));
+        putIfPresent(values, Facet.MONTH, eventDate != null ? YearMonth.from(eventDate) : null);
+        return values;
+    }
+    
+    private static void putIfPresent(Map<Facet, Object> values, Facet facet, Object value) {
+        if (value != null) {
+            values.put(facet, value);
+        }
+    }
+}
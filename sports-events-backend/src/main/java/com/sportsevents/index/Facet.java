@@ -0,0 +1,24 @@
+package com.sportsevents.index;
+
+/**
+ * Filterable dimensions of the event catalogue
+ */
+public enum Facet {
+    CATEGORY("categoryId"),
+    CITY("city"),
+    EVENT_TYPE("eventType"),
+    DIFFICULTY("difficulty"),
+    PRICE_BAND("priceBand"),
+    MONTH("month");
+    
+    private final String paramName;
+    
+    Facet(String paramName) {
+        this.paramName = paramName;
+    }
+    
+    /**
+     * Request parameter and response key for this facet
+     */
+    public String getParamName() { return paramName; }
+}
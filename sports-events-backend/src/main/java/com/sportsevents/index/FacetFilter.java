@@ -0,0 +1,34 @@
+package com.sportsevents.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Catalogue filter: values within a facet are OR-ed, selected facets are AND-ed
+ */
+public class FacetFilter {
+    
+    private final Map<Facet, Set<Object>> selections = new EnumMap<>(Facet.class);
+    
+    /**
+     * Select any of the given values for a facet; null or empty leaves the facet unconstrained
+     */
+    public FacetFilter with(Facet facet, Collection<?> values) {
+        if (values != null && !values.isEmpty()) {
+            selections.put(facet, new HashSet<>(values));
+        }
+        return this;
+    }
+    
+    public Map<Facet, Set<Object>> getSelections() {
+        return Collections.unmodifiableMap(selections);
+    }
+    
+    public boolean isEmpty() {
+        return selections.isEmpty();
+    }
+}
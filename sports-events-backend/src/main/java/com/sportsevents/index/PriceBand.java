@@ -0,0 +1,45 @@
+package com.sportsevents.index;
+
+import java.math.BigDecimal;
+
+/**
+ * Price ranges used for catalogue filtering, upper bound exclusive
+ */
+public enum PriceBand {
+    FREE(0, 0),
+    UNDER_500(0, 500),
+    FROM_500_TO_1000(500, 1000),
+    FROM_1000_TO_2500(1000, 2500),
+    ABOVE_2500(2500, Integer.MAX_VALUE);
+    
+    private final int min;
+    private final int max;
+    
+    PriceBand(int min, int max) {
+        this.min = min;
+        this.max = max;
+    }
+    
+    public int getMin() { return min; }
+    public int getMax() { return max; }
+    
+    /**
+     * Band for a price, null and zero count as free
+     */
+    public static PriceBand of(BigDecimal price) {
+        if (price == null || price.signum() <= 0) {
+            return FREE;
+        }
+        double value = price.doubleValue();
+        if (value < 500) {
+            return UNDER_500;
+        }
+        if (value < 1000) {
+            return FROM_500_TO_1000;
+        }
+        if (value < 2500) {
+            return FROM_1000_TO_2500;
+        }
+        return ABOVE_2500;
+    }
+}
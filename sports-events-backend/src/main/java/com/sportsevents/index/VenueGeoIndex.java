@@ -0,0 +1,175 @@
+package com.sportsevents.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory spatial index over venue coordinates.
+ * Venues are bucketed into a fixed-size latitude/longitude grid; a radius query visits
+ * only the cells overlapping the query's bounding box and filters them by great-circle distance.
+ */
+@Component
+public class VenueGeoIndex {
+    
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    
+    // ~5.5 km at the equator, roughly a geohash-5 cell
+    private static final double DEFAULT_CELL_DEGREES = 0.05;
+    
+    private final double cellDegrees;
+    
+    private final int lngCells;
+    
+    private final Map<Long, Set<VenuePoint>> cells = new ConcurrentHashMap<>();
+    
+    private final Map<Long, VenuePoint> venues = new ConcurrentHashMap<>();
+    
+    public record VenuePoint(long venueId, double latitude, double longitude) {}
+    
+    public record VenueDistance(long venueId, double distanceKm) {}
+    
+    public VenueGeoIndex() {
+        this(DEFAULT_CELL_DEGREES);
+    }
+    
+    public VenueGeoIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.lngCells = (int) Math.ceil(360.0 / cellDegrees);
+    }
+    
+    /**
+     * Insert or move a venue; venues without coordinates are removed from the index
+     */
+    public void put(long venueId, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            remove(venueId);
+            return;
+        }
+        VenuePoint point = new VenuePoint(venueId, latitude, longitude);
+        VenuePoint previous = venues.put(venueId, point);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+        cells.compute(cellKey(latitude, longitude), (key, cell) -> {
+            Set<VenuePoint> target = cell != null ? cell : ConcurrentHashMap.newKeySet();
+            target.add(point);
+            return target;
+        });
+    }
+    
+    /**
+     * Remove a venue from the index
+     */
+    public void remove(long venueId) {
+        VenuePoint previous = venues.remove(venueId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+    
+    /**
+     * Remove every venue not in the given set
+     */
+    public void retainAll(Set<Long> venueIds) {
+        for (Long venueId : List.copyOf(venues.keySet())) {
+            if (!venueIds.contains(venueId)) {
+                remove(venueId);
+            }
+        }
+    }
+    
+    /**
+     * Drop all entries
+     */
+    public void clear() {
+        venues.clear();
+        cells.clear();
+    }
+    
+    /**
+     * Number of indexed venues
+     */
+    public int size() {
+        return venues.size();
+    }
+    
+    /**
+     * Find venues within the radius, nearest first
+     */
+    public List<VenueDistance> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90.0, latitude - latDelta);
+        double maxLat = Math.min(90.0, latitude + latDelta);
+        
+        // Longitude degrees shrink towards the poles; widen to the full circle when the box reaches one
+        double cosLat = Math.min(Math.cos(Math.toRadians(minLat)), Math.cos(Math.toRadians(maxLat)));
+        double lngDelta = cosLat > 1e-6 ? radiusKm / (KM_PER_DEGREE_LAT * cosLat) : 180.0;
+        
+        int minRow = latRow(minLat);
+        int maxRow = latRow(maxLat);
+        int colSpan = lngDelta >= 180.0 ? lngCells : (int) Math.ceil(2 * lngDelta / cellDegrees) + 1;
+        int firstCol = lngCol(longitude - Math.min(lngDelta, 180.0));
+        
+        List<VenueDistance> matches = new ArrayList<>();
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int i = 0; i < Math.min(colSpan, lngCells); i++) {
+                Set<VenuePoint> cell = cells.get(key(row, Math.floorMod(firstCol + i, lngCells)));
+                if (cell == null) {
+                    continue;
+                }
+                for (VenuePoint point : cell) {
+                    double distance = haversineKm(latitude, longitude, point.latitude(), point.longitude());
+                    if (distance <= radiusKm) {
+                        matches.add(new VenueDistance(point.venueId(), distance));
+                    }
+                }
+            }
+        }
+        matches.sort(Comparator.comparingDouble(VenueDistance::distanceKm));
+        return matches;
+    }
+    
+    /**
+     * Great-circle distance in kilometres
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+    
+    private void removeFromCell(VenuePoint point) {
+        long key = cellKey(point.latitude(), point.longitude());
+        cells.computeIfPresent(key, (k, cell) -> {
+            cell.remove(point);
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+    
+    private long cellKey(double latitude, double longitude) {
+        return key(latRow(latitude), lngCol(longitude));
+    }
+    
+    private long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+    
+    private int latRow(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellDegrees);
+    }
+    
+    private int lngCol(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / cellDegrees), lngCells);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sportsevents.index;
+
+import com.sportsevents.repository.VenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Builds the venue geo index once the application is ready; later venue writes update it incrementally.
+ * Reloading updates the index in place, so nearby searches keep answering while it runs.
+ */
+@Component
+public class VenueGeoIndexLoader {
+    
+    private static final Logger log = LoggerFactory.getLogger(VenueGeoIndexLoader.class);
+    
+    @Autowired
+    private VenueRepository venueRepository;
+    
+    @Autowired
+    private VenueGeoIndex venueGeoIndex;
+    
+    // Loaded ahead of the warm-ups, whose requests read it
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void load() {
+        Set<Long> loaded = new HashSet<>();
+        for (Object[] row : venueRepository.findAllCoordinates()) {
+            venueGeoIndex.put((Long) row[0], (Double) row[1], (Double) row[2]);
+            loaded.add((Long) row[0]);
+        }
+        // Venues deleted since the last load
+        venueGeoIndex.retainAll(loaded);
+        log.info("Venue geo index loaded with {} venues", venueGeoIndex.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.sportsevents.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Booking moved to the cold archive table together with its event; read-only
+ */
+@Entity
+@Immutable
+@Table(name = "bookings_archive", indexes = {
+    @Index(name = "idx_bookings_archive_user", columnList = "user_id, booking_date")
+})
+public class ArchivedBooking {
+    
+    @Id
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+    
+    @Column(name = "event_date", nullable = false)
+    private LocalDateTime eventDate;
+    
+    @Column(name = "booking_date", nullable = false)
+    private LocalDateTime bookingDate;
+    
+    @Column(name = "total_amount", precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false)
+    private Booking.PaymentStatus paymentStatus;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "booking_status", nullable = false)
+    private Booking.BookingStatus bookingStatus;
+    
+    @Column(name = "payment_reference")
+    private String paymentReference;
+    
+    @Column(name = "notes", length = 500)
+    private String notes;
+    
+    @Column(name = "emergency_contact", length = 100)
+    private String emergencyContact;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Getters
+    public Long getId() { return id; }
+    
+    public Long getUserId() { return userId; }
+    
+    public Long getEventId() { return eventId; }
+    
+    public LocalDateTime getBookingDate() { return bookingDate; }
+    
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    
+    /**
+     * Detached copy as a {@link Booking}, for read paths that serve archived and live bookings alike
+     */
+    public Booking toBooking(User user, Event event) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setUser(user);
+        booking.setEvent(event);
+        booking.setEventDate(eventDate);
+        booking.setBookingDate(bookingDate);
+        booking.setTotalAmount(totalAmount);
+        booking.setPaymentStatus(paymentStatus);
+        booking.setBookingStatus(bookingStatus);
+        booking.setPaymentReference(paymentReference);
+        booking.setNotes(notes);
+        booking.setEmergencyContact(emergencyContact);
+        booking.setCreatedAt(createdAt);
+        booking.setUpdatedAt(updatedAt);
+        return booking;
+    }
+}
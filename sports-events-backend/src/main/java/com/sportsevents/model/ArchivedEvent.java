@@ -0,0 +1,114 @@
+package com.sportsevents.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Event moved to the cold archive table once it is older than the archive horizon; read-only
+ */
+@Entity
+@Immutable
+@Table(name = "events_archive")
+public class ArchivedEvent {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false, length = 200)
+    private String title;
+    
+    @Column(length = 1000)
+    private String description;
+    
+    @Column(name = "event_date", nullable = false)
+    private LocalDateTime eventDate;
+    
+    @Column(name = "registration_start_date", nullable = false)
+    private LocalDateTime registrationStartDate;
+    
+    @Column(name = "registration_end_date", nullable = false)
+    private LocalDateTime registrationEndDate;
+    
+    @Column(name = "max_participants")
+    private Integer maxParticipants;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal price;
+    
+    @Column(name = "image_url")
+    private String imageUrl;
+    
+    @Column(name = "banner_url")
+    private String bannerUrl;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private Event.EventType eventType;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "difficulty_level")
+    private Event.DifficultyLevel difficultyLevel;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Event.EventStatus status;
+    
+    @Column(name = "rules", length = 2000)
+    private String rules;
+    
+    @Column(name = "prize_info", length = 1000)
+    private String prizeInfo;
+    
+    @Column(name = "contact_info", length = 500)
+    private String contactInfo;
+    
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+    
+    @Column(name = "venue_id", nullable = false)
+    private Long venueId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+    
+    // Getters
+    public Long getId() { return id; }
+    
+    public LocalDateTime getEventDate() { return eventDate; }
+    
+    public Long getCategoryId() { return categoryId; }
+    
+    public Long getVenueId() { return venueId; }
+    
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+    
+    /**
+     * Detached copy as an {@link Event}, for read paths that serve archived and live events alike
+     */
+    public Event toEvent(Category category, Venue venue) {
+        Event event = new Event(title, description, eventDate, registrationStartDate, registrationEndDate,
+                category, venue);
+        event.setId(id);
+        event.setMaxParticipants(maxParticipants);
+        event.setPrice(price);
+        event.setImageUrl(imageUrl);
+        event.setBannerUrl(bannerUrl);
+        event.setEventType(eventType);
+        event.setDifficultyLevel(difficultyLevel);
+        event.setStatus(status);
+        event.setRules(rules);
+        event.setPrizeInfo(prizeInfo);
+        event.setContactInfo(contactInfo);
+        event.setCreatedAt(createdAt);
+        event.setUpdatedAt(updatedAt);
+        return event;
+    }
+}
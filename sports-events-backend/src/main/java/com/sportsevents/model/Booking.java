@@ -1,5 +1,7 @@
 package com.sportsevents.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
@@ -9,7 +11,12 @@ import java.time.LocalDateTime;
  * Booking entity for event registrations
  */
 @Entity
-@Table(name = "bookings")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_event_date", columnList = "event_date"),
+    @Index(name = "idx_bookings_user_event_date", columnList = "user_id, event_date"),
+    @Index(name = "idx_bookings_booking_date", columnList = "booking_date")
+})
 public class Booking {
     
     @Id
@@ -20,6 +27,11 @@ public class Booking {
     @Column(name = "booking_date", nullable = false, updatable = false)
     private LocalDateTime bookingDate;
     
+    // Copy of the event's date; bookings are range-partitioned on it in the PostgreSQL profile
+    @JsonIgnore
+    @Column(name = "event_date", nullable = false)
+    private LocalDateTime eventDate;
+    
     @Column(name = "total_amount", precision = 10, scale = 2)
     private BigDecimal totalAmount;
     
@@ -40,6 +52,13 @@ public class Booking {
     @Column(name = "emergency_contact", length = 100)
     private String emergencyContact;
     
+    // Claimed by the reminder dispatcher before it sends, so each booking is reminded once.
+    // Written only by BookingReminderJdbcRepository, so saving a booking loaded before a claim
+    // cannot reset it.
+    @JsonIgnore
+    @Column(name = "reminder_sent_at", insertable = false, updatable = false)
+    private LocalDateTime reminderSentAt;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -69,6 +88,7 @@ public class Booking {
         this.user = user;
         this.event = event;
         this.bookingDate = LocalDateTime.now();
+        this.eventDate = event.getEventDate();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         
@@ -84,6 +104,9 @@ public class Booking {
         if (bookingDate == null) {
             bookingDate = LocalDateTime.now();
         }
+        if (eventDate == null && event != null) {
+            eventDate = event.getEventDate();
+        }
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
@@ -100,6 +123,9 @@ public class Booking {
     public LocalDateTime getBookingDate() { return bookingDate; }
     public void setBookingDate(LocalDateTime bookingDate) { this.bookingDate = bookingDate; }
     
+    public LocalDateTime getEventDate() { return eventDate; }
+    public void setEventDate(LocalDateTime eventDate) { this.eventDate = eventDate; }
+    
     public BigDecimal getTotalAmount() { return totalAmount; }
     public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
     
@@ -118,6 +144,9 @@ public class Booking {
     public String getEmergencyContact() { return emergencyContact; }
     public void setEmergencyContact(String emergencyContact) { this.emergencyContact = emergencyContact; }
     
+    public LocalDateTime getReminderSentAt() { return reminderSentAt; }
+    public void setReminderSentAt(LocalDateTime reminderSentAt) { this.reminderSentAt = reminderSentAt; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
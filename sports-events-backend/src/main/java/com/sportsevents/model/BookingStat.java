@@ -0,0 +1,62 @@
+package com.sportsevents.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Checkpointed value of one booking statistics counter
+ */
+@Entity
+@Table(name = "booking_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_booking_stats_key", columnNames = {"scope", "scope_key", "metric", "stat_day"}),
+       indexes = @Index(name = "idx_booking_stats_day", columnList = "stat_day"))
+public class BookingStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "scope", nullable = false, length = 20)
+    private String scope;
+    
+    @Column(name = "scope_key", nullable = false, length = 100)
+    private String scopeKey;
+    
+    @Column(name = "metric", nullable = false, length = 50)
+    private String metric;
+    
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate statDay;
+    
+    @Column(name = "stat_value", nullable = false)
+    private Long statValue;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public BookingStat() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getScope() { return scope; }
+    public void setScope(String scope) { this.scope = scope; }
+    
+    public String getScopeKey() { return scopeKey; }
+    public void setScopeKey(String scopeKey) { this.scopeKey = scopeKey; }
+    
+    public String getMetric() { return metric; }
+    public void setMetric(String metric) { this.metric = metric; }
+    
+    public LocalDate getStatDay() { return statDay; }
+    public void setStatDay(LocalDate statDay) { this.statDay = statDay; }
+    
+    public Long getStatValue() { return statValue; }
+    public void setStatValue(Long statValue) { this.statValue = statValue; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -1,6 +1,10 @@
 package com.sportsevents.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,8 +15,12 @@ import java.util.List;
  * Event entity for sports events
  */
 @Entity
-@Table(name = "events")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_status_date", columnList = "status, event_date")
+})
 @Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Event {
     
     @Id
@@ -90,6 +98,7 @@ public class Event {
     private Venue venue;
     
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @JsonIgnore
     private List<Booking> bookings = new ArrayList<>();
     
     public enum EventType {
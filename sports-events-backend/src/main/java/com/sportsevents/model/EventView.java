@@ -0,0 +1,36 @@
+package com.sportsevents.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted number of times an event's page was viewed
+ */
+@Entity
+@Table(name = "event_views",
+       indexes = @Index(name = "idx_event_views_views", columnList = "views"))
+public class EventView {
+    
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+    
+    @Column(name = "views", nullable = false)
+    private Long views;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public EventView() {}
+    
+    // Getters and Setters
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+    
+    public Long getViews() { return views; }
+    public void setViews(Long views) { this.views = views; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
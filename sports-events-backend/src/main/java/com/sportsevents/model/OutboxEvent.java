@@ -0,0 +1,92 @@
+package com.sportsevents.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entry for booking lifecycle events, written in the same transaction as the booking change
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_unpublished", columnList = "published_at, id")
+})
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+    
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private EventType eventType;
+    
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    public enum EventType {
+        BOOKING_CREATED, BOOKING_STATUS_CHANGED, BOOKING_CANCELLED, PAYMENT_STATUS_CHANGED
+    }
+    
+    // Constructors
+    public OutboxEvent() {}
+    
+    public OutboxEvent(String aggregateType, Long aggregateId, EventType eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    // Lifecycle callbacks
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+    
+    public Long getAggregateId() { return aggregateId; }
+    public void setAggregateId(Long aggregateId) { this.aggregateId = aggregateId; }
+    
+    public EventType getEventType() { return eventType; }
+    public void setEventType(EventType eventType) { this.eventType = eventType; }
+    
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+    
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "id=" + id +
+                ", aggregateType='" + aggregateType + '\'' +
+                ", aggregateId=" + aggregateId +
+                ", eventType=" + eventType +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.sportsevents.reminder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Reminder channel that writes each reminder as an RFC 5322 message into a local directory,
+ * standing in for an SMTP relay. Files are named by booking id, so a repeated send replaces
+ * the earlier message instead of adding a second one.
+ */
+@Component
+@ConditionalOnProperty(name = "sportsevents.reminders.channel", havingValue = "file", matchIfMissing = true)
+public class FileReminderChannel implements ReminderChannel {
+    
+    private static final DateTimeFormatter EVENT_TIME = DateTimeFormatter.ofPattern("EEEE d MMMM yyyy 'at' HH:mm", Locale.ENGLISH);
+    
+    @Value("${sportsevents.reminders.file.directory:reminders}")
+    private Path directory;
+    
+    @Value("${sportsevents.reminders.from:no-reply@sportsevents.local}")
+    private String from;
+    
+    @Override
+    public void send(Reminder reminder) {
+        String message = "Message-ID: <reminder-" + reminder.bookingId() + "@sportsevents.local>\r\n" +
+                "From: " + from + "\r\n" +
+                "To: " + reminder.email() + "\r\n" +
+                "Subject: Reminder: " + reminder.eventTitle() + "\r\n" +
+                "Content-Type: text/plain; charset=UTF-8\r\n" +
+                "\r\n" +
+                "Hi " + reminder.firstName() + ",\r\n" +
+                "\r\n" +
+                reminder.eventTitle() + " starts on " + reminder.eventDate().format(EVENT_TIME) +
+                " at " + reminder.venueName() + ", " + reminder.city() + ".\r\n";
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve("reminder-" + reminder.bookingId() + ".eml");
+            Path temp = Files.createTempFile(directory, "reminder-", ".tmp");
+            Files.writeString(temp, message, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write reminder for booking " + reminder.bookingId(), e);
+        }
+    }
+}
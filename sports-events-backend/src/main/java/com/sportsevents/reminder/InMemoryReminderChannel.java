@@ -0,0 +1,38 @@
+package com.sportsevents.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reminder channel that keeps sent reminders in memory by booking id, for local development and benchmarks
+ */
+@Component
+@ConditionalOnProperty(name = "sportsevents.reminders.channel", havingValue = "memory")
+public class InMemoryReminderChannel implements ReminderChannel {
+    
+    private final Map<Long, Reminder> sent = new ConcurrentHashMap<>();
+    
+    @Override
+    public void send(Reminder reminder) {
+        sent.put(reminder.bookingId(), reminder);
+    }
+    
+    /**
+     * Snapshot of the reminders sent so far
+     */
+    public List<Reminder> getSentReminders() {
+        return new ArrayList<>(sent.values());
+    }
+    
+    /**
+     * Drop all retained reminders
+     */
+    public void clear() {
+        sent.clear();
+    }
+}
@@ -0,0 +1,10 @@
+package com.sportsevents.reminder;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a reminder needs about one confirmed booking of an event starting soon
+ */
+public record Reminder(Long bookingId, LocalDateTime bookingDate, LocalDateTime eventDate, String email,
+                       String firstName, Long eventId, String eventTitle, String venueName, String city) {
+}
@@ -0,0 +1,14 @@
+package com.sportsevents.reminder;
+
+/**
+ * Delivers event reminders (email gateway, SMS, push, ...)
+ */
+public interface ReminderChannel {
+    
+    /**
+     * Deliver one reminder; throwing leaves the booking unmarked so the next run retries it.
+     * Called from many virtual threads at once. The booking id identifies the reminder, so
+     * channels can drop a repeat that follows a crash between sending and marking.
+     */
+    void send(Reminder reminder);
+}
@@ -0,0 +1,164 @@
+package com.sportsevents.reminder;
+
+import com.sportsevents.repository.BookingReminderJdbcRepository;
+import com.sportsevents.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends a reminder for every confirmed booking whose event starts within {@code lead-hours}.
+ * Due bookings are read in id-ordered chunks of {@code chunk-size}, so memory stays bounded
+ * however many are due, and sent on virtual threads with at most {@code max-concurrency} sends
+ * in flight. Each send first claims the booking's sent marker with a conditional update, so a
+ * booking is reminded once even with several nodes dispatching; a failed send releases it.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "sportsevents.reminders.enabled", havingValue = "true")
+public class ReminderDispatcher {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReminderDispatcher.class);
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private BookingReminderJdbcRepository bookingReminderJdbcRepository;
+    
+    @Autowired
+    private ReminderChannel reminderChannel;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.reminders.lead-hours:24}")
+    private long leadHours;
+    
+    @Value("${sportsevents.reminders.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${sportsevents.reminders.max-concurrency:16}")
+    private int maxConcurrency;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private Counter sentCounter;
+    
+    private Counter failedCounter;
+    
+    private Timer sendTimer;
+    
+    private Timer lagTimer;
+    
+    private Timer runTimer;
+    
+    @PostConstruct
+    void registerMetrics() {
+        sentCounter = Counter.builder("reminders.sent")
+                .description("Reminders delivered to the channel")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("reminders.failed")
+                .description("Reminder sends that failed and will be retried")
+                .register(meterRegistry);
+        sendTimer = Timer.builder("reminders.send")
+                .description("Time for the channel to accept one reminder")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        lagTimer = Timer.builder("reminders.lag")
+                .description("Time from a reminder falling due to its delivery")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        runTimer = Timer.builder("reminders.dispatch")
+                .description("Time for one dispatch run over all due bookings")
+                .register(meterRegistry);
+        Gauge.builder("reminders.in.flight", inFlight, AtomicInteger::get)
+                .description("Reminder sends currently in progress")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Send every due reminder not sent yet
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.reminders.poll-interval-ms:60000}")
+    public void dispatch() {
+        runTimer.record(this::dispatchDue);
+    }
+    
+    private void dispatchDue() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusHours(leadHours);
+        Semaphore permits = new Semaphore(maxConcurrency);
+        int dispatched = 0;
+        // Closing the executor waits for the last sends
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long afterId = 0;
+            List<Reminder> chunk;
+            do {
+                chunk = bookingRepository.findDueReminders(now, until, afterId, PageRequest.of(0, chunkSize));
+                for (Reminder reminder : chunk) {
+                    // Blocks reading further chunks while the cap is reached
+                    permits.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            send(reminder);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+                dispatched += chunk.size();
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).bookingId();
+                }
+            } while (chunk.size() == chunkSize);
+        }
+        if (dispatched > 0) {
+            log.info("Dispatched {} reminders for events until {}", dispatched, until);
+        }
+    }
+    
+    private void send(Reminder reminder) {
+        LocalDateTime sentAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (!bookingReminderJdbcRepository.claim(reminder.bookingId(), reminder.eventDate(), sentAt)) {
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            sendTimer.record(() -> reminderChannel.send(reminder));
+            sentCounter.increment();
+            // Due once inside the lead window, or on booking when booked within it
+            LocalDateTime due = reminder.eventDate().minusHours(leadHours);
+            if (reminder.bookingDate().isAfter(due)) {
+                due = reminder.bookingDate();
+            }
+            lagTimer.record(due.isBefore(sentAt) ? Duration.between(due, sentAt) : Duration.ZERO);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            bookingReminderJdbcRepository.release(reminder.bookingId(), reminder.eventDate(), sentAt);
+            log.warn("Failed to send reminder for booking {}", reminder.bookingId(), e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sportsevents.repository;
+
+import com.sportsevents.model.ArchivedBooking;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for archived bookings
+ */
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+    
+    /**
+     * Newest archived bookings of a user, as many as the pageable's size
+     */
+    List<ArchivedBooking> findByUserIdOrderByBookingDateDesc(Long userId, Pageable pageable);
+    
+    /**
+     * Count archived bookings of a user
+     */
+    long countByUserId(Long userId);
+}
@@ -0,0 +1,12 @@
+package com.sportsevents.repository;
+
+import com.sportsevents.model.ArchivedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for archived events
+ */
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+}
@@ -0,0 +1,89 @@
+package com.sportsevents.repository;
+
+import com.sportsevents.dto.BookingPaymentState;
+import com.sportsevents.dto.PaymentCallback;
+import com.sportsevents.model.Booking;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JDBC repository for set-based booking payment updates
+ */
+@Repository
+@Timed("sportsevents.repository.jdbc")
+public class BookingPaymentJdbcRepository {
+    
+    private static final String UPDATE_PAYMENT_STATUS =
+            "UPDATE bookings SET payment_status = ?, payment_reference = ?, updated_at = ? " +
+            "WHERE id = ? AND payment_status <> ?";
+    
+    private static final String SELECT_PAYMENT_STATES =
+            "SELECT id, user_id, event_id, booking_status, payment_status, payment_reference, total_amount " +
+            "FROM bookings WHERE id IN (%s)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Apply payment callbacks as a single JDBC batch, returns the callbacks that changed a booking's
+     * payment status. A replayed callback for the status a booking already has changes nothing.
+     */
+    public List<PaymentCallback> batchUpdatePaymentStatus(List<PaymentCallback> callbacks) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_PAYMENT_STATUS, callbacks, callbacks.size(),
+                (ps, callback) -> {
+                    ps.setString(1, callback.paymentStatus().name());
+                    ps.setString(2, callback.paymentReference());
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, callback.bookingId());
+                    ps.setString(5, callback.paymentStatus().name());
+                });
+        
+        List<PaymentCallback> applied = new ArrayList<>(callbacks.size());
+        int index = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied.add(callbacks.get(index));
+                }
+                index++;
+            }
+        }
+        return applied;
+    }
+    
+    /**
+     * Current state of the given bookings, in the order of the ids
+     */
+    public List<BookingPaymentState> findPaymentStates(List<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return List.of();
+        }
+        String ids = String.join(", ", Collections.nCopies(bookingIds.size(), "?"));
+        Map<Long, BookingPaymentState> states = new HashMap<>();
+        jdbcTemplate.query(SELECT_PAYMENT_STATES.formatted(ids),
+                rs -> {
+                    long bookingId = rs.getLong(1);
+                    states.put(bookingId, new BookingPaymentState(bookingId,
+                            rs.getObject(2, Long.class), rs.getObject(3, Long.class),
+                            Booking.BookingStatus.valueOf(rs.getString(4)),
+                            Booking.PaymentStatus.valueOf(rs.getString(5)),
+                            rs.getString(6), rs.getBigDecimal(7)));
+                },
+                bookingIds.toArray());
+        return bookingIds.stream().map(states::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.sportsevents.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC repository for the per-booking reminder sent marker
+ */
+@Repository
+@Timed("sportsevents.repository.jdbc")
+public class BookingReminderJdbcRepository {
+    
+    // event_date is the partition key on PostgreSQL, so each update touches one partition
+    private static final String CLAIM =
+            "UPDATE bookings SET reminder_sent_at = ? WHERE id = ? AND event_date = ? AND reminder_sent_at IS NULL";
+    
+    private static final String RELEASE =
+            "UPDATE bookings SET reminder_sent_at = NULL WHERE id = ? AND event_date = ? AND reminder_sent_at = ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Mark the booking's reminder as sent; false when another run or node already has
+     */
+    public boolean claim(Long bookingId, LocalDateTime eventDate, LocalDateTime sentAt) {
+        return jdbcTemplate.update(CLAIM, Timestamp.valueOf(sentAt), bookingId, Timestamp.valueOf(eventDate)) == 1;
+    }
+    
+    /**
+     * Undo a claim whose send failed, so the next run retries the booking
+     */
+    public void release(Long bookingId, LocalDateTime eventDate, LocalDateTime sentAt) {
+        jdbcTemplate.update(RELEASE, bookingId, Timestamp.valueOf(eventDate), Timestamp.valueOf(sentAt));
+    }
+}
@@ -1,14 +1,18 @@
 package com.sportsevents.repository;
 
 import com.sportsevents.model.Booking;
+import com.sportsevents.reminder.Reminder;
+import com.sportsevents.stats.BookingStatRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,15 +59,16 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     long countConfirmedBookingsByEventId(@Param("eventId") Long eventId);
     
     /**
-     * Find upcoming bookings for a user
+     * Find upcoming bookings for a user; filters on the booking's own event date so past
+     * partitions are pruned
      */
     @Query("SELECT b FROM Booking b " +
            "LEFT JOIN FETCH b.event e " +
            "LEFT JOIN FETCH e.venue " +
            "WHERE b.user.id = :userId " +
-           "AND e.eventDate >= CURRENT_TIMESTAMP " +
+           "AND b.eventDate >= CURRENT_TIMESTAMP " +
            "AND b.bookingStatus = 'CONFIRMED' " +
-           "ORDER BY e.eventDate ASC")
+           "ORDER BY b.eventDate ASC")
     List<Booking> findUpcomingBookingsByUserId(@Param("userId") Long userId);
     
     /**
@@ -114,13 +119,58 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     long countByPaymentStatus(Booking.PaymentStatus paymentStatus);
     
     /**
-     * Find bookings for events starting soon
+     * Find bookings for events starting soon, reading only the partitions of the window
      */
     @Query("SELECT b FROM Booking b " +
-           "INNER JOIN b.event e " +
            "LEFT JOIN FETCH b.user " +
-           "WHERE e.eventDate BETWEEN CURRENT_TIMESTAMP AND :endDate " +
+           "WHERE b.eventDate BETWEEN CURRENT_TIMESTAMP AND :endDate " +
            "AND b.bookingStatus = 'CONFIRMED' " +
-           "ORDER BY e.eventDate ASC")
+           "ORDER BY b.eventDate ASC")
     List<Booking> findBookingsForEventsStartingSoon(@Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * Next chunk of confirmed bookings without a reminder for events in the window, in id order
+     * after the previous chunk's last id; the pageable only limits the chunk size
+     */
+    @Query("SELECT new com.sportsevents.reminder.Reminder(b.id, b.bookingDate, b.eventDate, u.email, u.firstName, " +
+           "e.id, e.title, v.name, v.city) " +
+           "FROM Booking b JOIN b.user u JOIN b.event e JOIN e.venue v " +
+           "WHERE b.eventDate BETWEEN :from AND :to " +
+           "AND b.bookingStatus = 'CONFIRMED' " +
+           "AND b.reminderSentAt IS NULL " +
+           "AND b.id > :afterId " +
+           "ORDER BY b.id ASC")
+    List<Reminder> findDueReminders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                    @Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * Move an event's bookings to its new date, which moves them between partitions
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.eventDate = :eventDate " +
+           "WHERE b.event.id = :eventId AND b.eventDate <> :eventDate")
+    int updateEventDate(@Param("eventId") Long eventId, @Param("eventDate") LocalDateTime eventDate);
+    
+    /**
+     * Booking counts grouped by the dimensions and statuses the statistics counters track
+     */
+    @Query("SELECT new com.sportsevents.stats.BookingStatRow(" +
+           "e.id, e.category.id, v.city, CAST(b.createdAt AS LocalDate), " +
+           "CAST(COALESCE(b.updatedAt, b.createdAt) AS LocalDate), b.bookingStatus, b.paymentStatus, COUNT(b)) " +
+           "FROM Booking b JOIN b.event e JOIN e.venue v " +
+           "GROUP BY e.id, e.category.id, v.city, CAST(b.createdAt AS LocalDate), " +
+           "CAST(COALESCE(b.updatedAt, b.createdAt) AS LocalDate), b.bookingStatus, b.paymentStatus")
+    List<BookingStatRow> aggregateBookingStats();
+    
+    /**
+     * Booking counts for the given bookings, grouped like {@link #aggregateBookingStats()}
+     */
+    @Query("SELECT new com.sportsevents.stats.BookingStatRow(" +
+           "e.id, e.category.id, v.city, CAST(b.createdAt AS LocalDate), " +
+           "CAST(COALESCE(b.updatedAt, b.createdAt) AS LocalDate), b.bookingStatus, b.paymentStatus, COUNT(b)) " +
+           "FROM Booking b JOIN b.event e JOIN e.venue v " +
+           "WHERE b.id IN :bookingIds " +
+           "GROUP BY e.id, e.category.id, v.city, CAST(b.createdAt AS LocalDate), " +
+           "CAST(COALESCE(b.updatedAt, b.createdAt) AS LocalDate), b.bookingStatus, b.paymentStatus")
+    List<BookingStatRow> aggregateBookingStatsByIds(@Param("bookingIds") Collection<Long> bookingIds);
 }
@@ -0,0 +1,93 @@
+package com.sportsevents.repository;
+
+import com.sportsevents.stats.StatKey;
+import com.sportsevents.stats.StatMetric;
+import com.sportsevents.stats.StatScope;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC repository for booking statistics checkpoints
+ */
+@Repository
+@Timed("sportsevents.repository.jdbc")
+public class BookingStatJdbcRepository {
+    
+    // Standard MERGE, understood by both H2 and PostgreSQL 15+; adds the delta to the stored value,
+    // so nodes checkpointing the same counter each add their own counts
+    private static final String MERGE_STAT_DELTA =
+            "MERGE INTO booking_stats t USING (VALUES (CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(100)), " +
+            "CAST(? AS VARCHAR(50)), CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) " +
+            "AS s (scope, scope_key, metric, stat_day, delta, updated_at) " +
+            "ON t.scope = s.scope AND t.scope_key = s.scope_key AND t.metric = s.metric AND t.stat_day = s.stat_day " +
+            "WHEN MATCHED THEN UPDATE SET stat_value = t.stat_value + s.delta, updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (scope, scope_key, metric, stat_day, stat_value, updated_at) " +
+            "VALUES (s.scope, s.scope_key, s.metric, s.stat_day, s.delta, s.updated_at)";
+    
+    // Leaves counters another node already wrote alone
+    private static final String INSERT_STAT_IF_ABSENT =
+            "MERGE INTO booking_stats t USING (VALUES (CAST(? AS VARCHAR(20)), CAST(? AS VARCHAR(100)), " +
+            "CAST(? AS VARCHAR(50)), CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) " +
+            "AS s (scope, scope_key, metric, stat_day, stat_value, updated_at) " +
+            "ON t.scope = s.scope AND t.scope_key = s.scope_key AND t.metric = s.metric AND t.stat_day = s.stat_day " +
+            "WHEN NOT MATCHED THEN INSERT (scope, scope_key, metric, stat_day, stat_value, updated_at) " +
+            "VALUES (s.scope, s.scope_key, s.metric, s.stat_day, s.stat_value, s.updated_at)";
+    
+    private static final String SELECT_STATS_SINCE =
+            "SELECT scope, scope_key, metric, stat_day, stat_value FROM booking_stats WHERE stat_day >= ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Add counter deltas to the stored values as a single JDBC batch
+     */
+    public void batchAddDeltas(List<Map.Entry<StatKey, Long>> deltas) {
+        batch(MERGE_STAT_DELTA, deltas);
+    }
+    
+    /**
+     * Store counter values as a single JDBC batch, skipping counters that are already stored
+     */
+    public void batchInsertIfAbsent(List<Map.Entry<StatKey, Long>> values) {
+        batch(INSERT_STAT_IF_ABSENT, values);
+    }
+    
+    /**
+     * Load checkpointed values from a day onwards
+     */
+    public List<Map.Entry<StatKey, Long>> findSince(LocalDate day) {
+        return jdbcTemplate.query(SELECT_STATS_SINCE,
+                (rs, rowNum) -> Map.entry(
+                        new StatKey(StatScope.valueOf(rs.getString(1)), rs.getString(2),
+                                StatMetric.valueOf(rs.getString(3)), rs.getDate(4).toLocalDate()),
+                        rs.getLong(5)),
+                Date.valueOf(day));
+    }
+    
+    private void batch(String sql, List<Map.Entry<StatKey, Long>> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, values, values.size(),
+                (ps, entry) -> {
+                    StatKey key = entry.getKey();
+                    ps.setString(1, key.scope().name());
+                    ps.setString(2, key.scopeKey());
+                    ps.setString(3, key.metric().name());
+                    ps.setDate(4, Date.valueOf(key.day()));
+                    ps.setLong(5, entry.getValue());
+                    ps.setTimestamp(6, now);
+                });
+    }
+}
@@ -0,0 +1,79 @@
+package com.sportsevents.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC repository for set-based moves of events and their bookings into the archive tables
+ */
+@Repository
+@Timed("sportsevents.repository.jdbc")
+public class EventArchiveJdbcRepository {
+    
+    private static final String EVENT_COLUMNS =
+            "id, title, description, event_date, registration_start_date, registration_end_date, " +
+            "max_participants, price, image_url, banner_url, event_type, difficulty_level, status, " +
+            "rules, prize_info, contact_info, category_id, venue_id, created_at, updated_at";
+    
+    private static final String BOOKING_COLUMNS =
+            "id, user_id, event_id, event_date, booking_date, booking_status, payment_status, " +
+            "payment_reference, total_amount, notes, emergency_contact, created_at, updated_at";
+    
+    private static final String FIND_EVENTS_BEFORE =
+            "SELECT id FROM events WHERE event_date < ? ORDER BY event_date, id LIMIT ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Oldest events that took place before the horizon
+     */
+    public List<Long> findEventIdsBefore(LocalDateTime horizon, int limit) {
+        return jdbcTemplate.queryForList(FIND_EVENTS_BEFORE, Long.class, Timestamp.valueOf(horizon), limit);
+    }
+    
+    /**
+     * Copy the events and their bookings into the archive tables and delete them from the live ones.
+     * Must run in a transaction; returns the number of bookings moved.
+     */
+    public int archiveEvents(List<Long> eventIds, LocalDateTime archivedAt) {
+        String ids = String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+        Object[] idArgs = eventIds.toArray();
+        List<Object> archiveArgs = new ArrayList<>(eventIds.size() + 1);
+        archiveArgs.add(Timestamp.valueOf(archivedAt));
+        archiveArgs.addAll(eventIds);
+        
+        // Rows are locked first so no update to them can commit between the copy and the delete
+        jdbcTemplate.queryForList("SELECT id FROM events WHERE id IN (" + ids + ") FOR UPDATE", Long.class, idArgs);
+        jdbcTemplate.queryForList("SELECT id FROM bookings WHERE event_id IN (" + ids + ") FOR UPDATE", Long.class, idArgs);
+        
+        jdbcTemplate.update("INSERT INTO events_archive (" + EVENT_COLUMNS + ", archived_at) " +
+                "SELECT " + EVENT_COLUMNS + ", ? FROM events WHERE id IN (" + ids + ")", archiveArgs.toArray());
+        int bookings = jdbcTemplate.update("INSERT INTO bookings_archive (" + BOOKING_COLUMNS + ", archived_at) " +
+                "SELECT " + BOOKING_COLUMNS + ", ? FROM bookings WHERE event_id IN (" + ids + ")", archiveArgs.toArray());
+        
+        // Only bookings that were copied are deleted; one inserted meanwhile makes the event delete fail
+        // on its foreign key and the batch roll back
+        jdbcTemplate.update("DELETE FROM bookings WHERE event_id IN (" + ids + ") " +
+                "AND id IN (SELECT id FROM bookings_archive WHERE event_id IN (" + ids + "))",
+                concat(idArgs, idArgs));
+        jdbcTemplate.update("DELETE FROM events WHERE id IN (" + ids + ")", idArgs);
+        jdbcTemplate.update("DELETE FROM event_views WHERE event_id IN (" + ids + ")", idArgs);
+        return bookings;
+    }
+    
+    private static Object[] concat(Object[] first, Object[] second) {
+        Object[] all = new Object[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+}
@@ -0,0 +1,81 @@
+package com.sportsevents.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC repository for set-based status and registration transitions of events
+ */
+@Repository
+@Timed("sportsevents.repository.jdbc")
+public class EventLifecycleJdbcRepository {
+    
+    private static final String FIND_OPEN_STARTED =
+            "SELECT id FROM events " +
+            "WHERE status = 'ACTIVE' AND event_date <= ? AND registration_end_date > ? " +
+            "ORDER BY event_date, id LIMIT ?";
+    
+    private static final String FIND_ACTIVE_BEFORE =
+            "SELECT id FROM events " +
+            "WHERE status = 'ACTIVE' AND event_date < ? " +
+            "ORDER BY event_date, id LIMIT ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Active events that have started while their registration is still open
+     */
+    public List<Long> findOpenStarted(LocalDateTime now, int limit) {
+        Timestamp at = Timestamp.valueOf(now);
+        return jdbcTemplate.queryForList(FIND_OPEN_STARTED, Long.class, at, at, limit);
+    }
+    
+    /**
+     * Oldest active events that took place before the cutoff
+     */
+    public List<Long> findActiveBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(FIND_ACTIVE_BEFORE, Long.class, Timestamp.valueOf(cutoff), limit);
+    }
+    
+    /**
+     * End the registration of the events at their start. The conditions of the scan are repeated,
+     * so an event edited since it was read is left alone; returns the number of events updated.
+     */
+    public int closeRegistration(List<Long> eventIds, LocalDateTime now) {
+        Timestamp at = Timestamp.valueOf(now);
+        return jdbcTemplate.update("UPDATE events SET registration_end_date = event_date, updated_at = ? " +
+                "WHERE id IN (" + placeholders(eventIds) + ") AND status = 'ACTIVE' " +
+                "AND event_date <= ? AND registration_end_date > ?", args(at, eventIds, at, at));
+    }
+    
+    /**
+     * Mark the events as completed when they are still active and took place before the cutoff;
+     * returns the number of events updated
+     */
+    public int complete(List<Long> eventIds, LocalDateTime cutoff, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE events SET status = 'COMPLETED', updated_at = ? " +
+                "WHERE id IN (" + placeholders(eventIds) + ") AND status = 'ACTIVE' AND event_date < ?",
+                args(Timestamp.valueOf(now), eventIds, Timestamp.valueOf(cutoff)));
+    }
+    
+    private static String placeholders(List<Long> eventIds) {
+        return String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+    }
+    
+    private static Object[] args(Object first, List<Long> eventIds, Object... rest) {
+        List<Object> args = new ArrayList<>(eventIds.size() + rest.length + 1);
+        args.add(first);
+        args.addAll(eventIds);
+        Collections.addAll(args, rest);
+        return args.toArray();
+    }
+}
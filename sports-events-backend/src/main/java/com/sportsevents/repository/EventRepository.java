@@ -1,5 +1,6 @@
 package com.sportsevents.repository;
 
+import com.sportsevents.index.EventFacets;
 import com.sportsevents.model.Event;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -113,6 +115,16 @@ public interface EventRepository extends JpaRepository<Event, Long> {
            "ORDER BY e.eventDate ASC")
     Page<Event> findEventsWithAvailableSlots(@Param("now") LocalDateTime now, Pageable pageable);
     
+    /**
+     * Find upcoming active events by stored view count, most viewed first
+     */
+    @Query(value = "SELECT e FROM Event e JOIN EventView v ON v.eventId = e.id " +
+                   "WHERE e.status = 'ACTIVE' AND e.eventDate > :now " +
+                   "ORDER BY v.views DESC, e.id ASC",
+           countQuery = "SELECT COUNT(e) FROM Event e JOIN EventView v ON v.eventId = e.id " +
+                        "WHERE e.status = 'ACTIVE' AND e.eventDate > :now")
+    Page<Event> findMostViewedEvents(@Param("now") LocalDateTime now, Pageable pageable);
+    
     /**
      * Find event by ID with category and venue details
      */
@@ -138,6 +150,36 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         @Param("weekFromNow") LocalDateTime weekFromNow
     );
     
+    /**
+     * Find upcoming active events at the given venues
+     */
+    @Query("SELECT e FROM Event e WHERE e.venue.id IN :venueIds " +
+           "AND e.status = 'ACTIVE' " +
+           "AND e.eventDate >= :now " +
+           "ORDER BY e.eventDate ASC")
+    List<Event> findUpcomingEventsByVenueIds(
+        @Param("venueIds") Collection<Long> venueIds,
+        @Param("now") LocalDateTime now
+    );
+    
+    /**
+     * Find facet values of all active events for the in-memory catalogue
+     */
+    @Query("SELECT new com.sportsevents.index.EventFacets(" +
+           "e.id, e.category.id, v.city, v.state, v.country, e.eventType, e.difficultyLevel, e.price, e.eventDate) " +
+           "FROM Event e JOIN e.venue v " +
+           "WHERE e.status = 'ACTIVE'")
+    List<EventFacets> findActiveEventFacets();
+    
+    /**
+     * Find facet values of the active events at a venue
+     */
+    @Query("SELECT new com.sportsevents.index.EventFacets(" +
+           "e.id, e.category.id, v.city, v.state, v.country, e.eventType, e.difficultyLevel, e.price, e.eventDate) " +
+           "FROM Event e JOIN e.venue v " +
+           "WHERE e.status = 'ACTIVE' AND v.id = :venueId")
+    List<EventFacets> findActiveEventFacetsByVenue(@Param("venueId") Long venueId);
+    
     /**
      * Find events by title
      */
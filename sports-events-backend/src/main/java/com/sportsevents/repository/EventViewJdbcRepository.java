@@ -0,0 +1,68 @@
+package com.sportsevents.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC repository for event view counts
+ */
+@Repository
+@Timed("sportsevents.repository.jdbc")
+public class EventViewJdbcRepository {
+    
+    // Standard MERGE, understood by both H2 and PostgreSQL 15+; adds the delta to the stored count
+    private static final String MERGE_VIEWS =
+            "MERGE INTO event_views t USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) " +
+            "AS s (event_id, delta, updated_at) " +
+            "ON t.event_id = s.event_id " +
+            "WHEN MATCHED THEN UPDATE SET views = t.views + s.delta, updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (event_id, views, updated_at) VALUES (s.event_id, s.delta, s.updated_at)";
+    
+    // Ids bound per query, well below the parameter limits of H2 and PostgreSQL
+    private static final int MAX_IN_IDS = 1000;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Add view deltas to the stored counts as a single JDBC batch
+     */
+    public void batchAddViews(List<Map.Entry<Long, Long>> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(MERGE_VIEWS, deltas, deltas.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getKey());
+                    ps.setLong(2, entry.getValue());
+                    ps.setTimestamp(3, now);
+                });
+    }
+    
+    /**
+     * Stored counts of the given events; events never flushed are missing from the result
+     */
+    public Map<Long, Long> findViews(List<Long> eventIds) {
+        Map<Long, Long> views = new HashMap<>();
+        for (int from = 0; from < eventIds.size(); from += MAX_IN_IDS) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + MAX_IN_IDS, eventIds.size()));
+            String ids = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT event_id, views FROM event_views WHERE event_id IN (" + ids + ")",
+                    rs -> {
+                        views.put(rs.getLong(1), rs.getLong(2));
+                    },
+                    chunk.toArray());
+        }
+        return views;
+    }
+}
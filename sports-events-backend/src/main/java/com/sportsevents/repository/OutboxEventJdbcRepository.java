@@ -0,0 +1,42 @@
+package com.sportsevents.repository;
+
+import com.sportsevents.model.OutboxEvent;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC repository for bulk outbox inserts, where IDENTITY ids would defeat Hibernate insert batching
+ */
+@Repository
+@Timed("sportsevents.repository.jdbc")
+public class OutboxEventJdbcRepository {
+    
+    private static final String INSERT_OUTBOX_EVENT =
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert outbox events as a single JDBC batch
+     */
+    public void batchInsert(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_EVENT, events, events.size(),
+                (ps, event) -> {
+                    ps.setString(1, event.getAggregateType());
+                    ps.setLong(2, event.getAggregateId());
+                    ps.setString(3, event.getEventType().name());
+                    ps.setString(4, event.getPayload());
+                    ps.setTimestamp(5, Timestamp.valueOf(event.getCreatedAt()));
+                });
+    }
+}
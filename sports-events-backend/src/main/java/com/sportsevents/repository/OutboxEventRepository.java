@@ -0,0 +1,44 @@
+package com.sportsevents.repository;
+
+import com.sportsevents.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for OutboxEvent entity
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    /**
+     * Lock the next batch of unpublished events, skipping rows held by other relays.
+     * A lock timeout of -2 is rendered as SKIP LOCKED on dialects that support it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o WHERE o.publishedAt IS NULL ORDER BY o.id ASC")
+    List<OutboxEvent> findUnpublishedForUpdate(Pageable pageable);
+    
+    /**
+     * Count unpublished events
+     */
+    long countByPublishedAtIsNull();
+    
+    /**
+     * Delete published events older than the given date
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt IS NOT NULL AND o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -35,8 +35,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT DISTINCT u FROM User u " +
            "INNER JOIN u.bookings b " +
-           "INNER JOIN b.event e " +
-           "WHERE e.eventDate >= CURRENT_TIMESTAMP " +
+           "WHERE b.eventDate >= CURRENT_TIMESTAMP " +
            "AND b.bookingStatus = 'CONFIRMED' " +
            "ORDER BY u.firstName ASC, u.lastName ASC")
     java.util.List<User> findUsersWithUpcomingBookings();
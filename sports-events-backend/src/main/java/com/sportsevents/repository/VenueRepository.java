@@ -66,4 +66,11 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
      */
     @Query("SELECT v FROM Venue v WHERE v.capacity >= :minCapacity ORDER BY v.capacity ASC")
     List<Venue> findByCapacityGreaterThanEqual(@Param("minCapacity") Integer minCapacity);
+    
+    /**
+     * Find coordinates of all geolocated venues as (id, latitude, longitude)
+     */
+    @Query("SELECT v.id, v.latitude, v.longitude FROM Venue v " +
+           "WHERE v.latitude IS NOT NULL AND v.longitude IS NOT NULL")
+    List<Object[]> findAllCoordinates();
 }
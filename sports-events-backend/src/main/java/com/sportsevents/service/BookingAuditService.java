@@ -0,0 +1,65 @@
+package com.sportsevents.service;
+
+import com.sportsevents.audit.AuditRecord;
+import com.sportsevents.audit.BookingAuditLog;
+import com.sportsevents.dto.BookingPaymentState;
+import com.sportsevents.model.Booking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Service for the booking audit trail.
+ * Captures the booking's state at each transition and appends it to the audit log once the
+ * transaction commits, so the journal only holds changes that took effect.
+ */
+@Service
+public class BookingAuditService {
+    
+    @Autowired
+    private BookingAuditLog bookingAuditLog;
+    
+    /**
+     * Record a booking transition
+     */
+    public void recordTransition(Booking booking, AuditRecord.Type type) {
+        AuditRecord record = AuditRecord.of(type, booking.getId(),
+                booking.getUser() != null ? booking.getUser().getId() : 0,
+                booking.getEvent() != null ? booking.getEvent().getId() : 0,
+                booking.getBookingStatus(), booking.getPaymentStatus(),
+                booking.getTotalAmount(), booking.getPaymentReference());
+        afterCommit(List.of(record));
+    }
+    
+    /**
+     * Record payment status changes applied by the webhook batch writer, from the bookings as read
+     * back after the update
+     */
+    public void recordPaymentChanges(List<BookingPaymentState> states) {
+        List<AuditRecord> records = states.stream()
+                .map(state -> AuditRecord.of(AuditRecord.Type.PAYMENT_CHANGED, state.bookingId(),
+                        state.userId() != null ? state.userId() : 0,
+                        state.eventId() != null ? state.eventId() : 0,
+                        state.bookingStatus(), state.paymentStatus(),
+                        state.totalAmount(), state.paymentReference()))
+                .toList();
+        afterCommit(records);
+    }
+    
+    private void afterCommit(List<AuditRecord> records) {
+        Runnable append = () -> records.forEach(bookingAuditLog::append);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append.run();
+                }
+            });
+        } else {
+            append.run();
+        }
+    }
+}
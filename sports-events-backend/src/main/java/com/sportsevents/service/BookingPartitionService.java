@@ -0,0 +1,117 @@
+package com.sportsevents.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Creates the monthly partitions of the PostgreSQL {@code bookings} table, which is
+ * range-partitioned on the event date. Every run makes sure the current month and
+ * {@code months-ahead} following months have a partition, and splits out of
+ * {@code bookings_default} the months of any bookings that landed there, so that every
+ * booking ends up in a partition the planner can prune.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "sportsevents.bookings.partitioning.enabled", havingValue = "true")
+public class BookingPartitionService {
+    
+    private static final Logger log = LoggerFactory.getLogger(BookingPartitionService.class);
+    
+    private static final String DEFAULT_PARTITION = "bookings_default";
+    
+    private static final String FIND_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'bookings'";
+    
+    private static final String FIND_DEFAULT_MONTHS =
+            "SELECT DISTINCT CAST(date_trunc('month', event_date) AS date) FROM " + DEFAULT_PARTITION;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.bookings.partitioning.months-ahead:12}")
+    private int monthsAhead;
+    
+    private Counter partitionsCreated;
+    
+    @PostConstruct
+    void registerMetrics() {
+        partitionsCreated = Counter.builder("bookings.partitions.created")
+                .description("Monthly bookings partitions created")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Create missing monthly partitions, at startup and then periodically
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.bookings.partitioning.interval-ms:86400000}")
+    public void ensurePartitions() {
+        TreeSet<YearMonth> months = new TreeSet<>();
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        for (LocalDate month : jdbcTemplate.queryForList(FIND_DEFAULT_MONTHS, LocalDate.class)) {
+            months.add(YearMonth.from(month));
+        }
+        
+        List<String> existing = jdbcTemplate.queryForList(FIND_PARTITIONS, String.class);
+        for (YearMonth month : months) {
+            String name = partitionName(month);
+            if (!existing.contains(name)) {
+                createPartition(month, name);
+            }
+        }
+    }
+    
+    /**
+     * Create one month's partition, moving the month's rows over from the default partition.
+     * Attaching checks the default partition holds no rows of the new range, so the move and
+     * the attach happen in one transaction.
+     */
+    private void createPartition(YearMonth month, String name) {
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        int moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE bookings INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int rows = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION +
+                    " WHERE event_date >= ? AND event_date < ? RETURNING *) " +
+                    "INSERT INTO " + name + " SELECT * FROM moved", from, to);
+            // ATTACH PARTITION takes no bind parameters, the bounds are generated dates
+            jdbcTemplate.execute("ALTER TABLE bookings ATTACH PARTITION " + name +
+                    " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            return rows;
+        });
+        partitionsCreated.increment();
+        log.info("Created bookings partition {} ({} bookings moved from {})", name, moved, DEFAULT_PARTITION);
+    }
+    
+    static String partitionName(YearMonth month) {
+        return String.format("bookings_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
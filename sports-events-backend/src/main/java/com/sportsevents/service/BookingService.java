@@ -1,44 +1,114 @@
 package com.sportsevents.service;
 
+import com.sportsevents.audit.AuditRecord;
+import com.sportsevents.model.ArchivedBooking;
+import com.sportsevents.model.ArchivedEvent;
 import com.sportsevents.model.Booking;
+import com.sportsevents.model.Category;
 import com.sportsevents.model.Event;
+import com.sportsevents.model.OutboxEvent;
 import com.sportsevents.model.User;
+import com.sportsevents.model.Venue;
+import com.sportsevents.repository.ArchivedBookingRepository;
+import com.sportsevents.repository.ArchivedEventRepository;
 import com.sportsevents.repository.BookingRepository;
+import com.sportsevents.repository.CategoryRepository;
+import com.sportsevents.repository.VenueRepository;
+import com.sportsevents.warmup.JitWarmer;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for Booking operations
  */
 @Service
+@Timed("sportsevents.service")
 @Transactional
 public class BookingService {
     
     @Autowired
     private BookingRepository bookingRepository;
     
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+    
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private VenueRepository venueRepository;
+    
     @Autowired
     private EventService eventService;
     
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private BookingStatsService bookingStatsService;
+    
+    @Autowired
+    private BookingAuditService bookingAuditService;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private final Map<BookingOutcome, Counter> outcomeCounters = new EnumMap<>(BookingOutcome.class);
+    
+    private enum BookingOutcome {
+        SUCCESS, FULL, DUPLICATE, CLOSED, NOT_FOUND
+    }
+    
+    @PostConstruct
+    void registerMetrics() {
+        for (BookingOutcome outcome : BookingOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("bookings.attempts")
+                    .description("Booking attempts by outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+    
     /**
      * Create new booking
      */
     public Booking createBooking(Long userId, Long eventId, String notes, String emergencyContact) {
         // Validate user and event exist
         Optional<User> userOpt = userService.getUserById(userId);
-        Optional<Event> eventOpt = eventService.getEventById(eventId);
+        Optional<Event> eventOpt = eventService.findEventById(eventId);
         
         if (userOpt.isEmpty() || eventOpt.isEmpty()) {
+            recordOutcome(BookingOutcome.NOT_FOUND);
             throw new IllegalArgumentException("User or Event not found");
         }
         
@@ -48,16 +118,19 @@ public class BookingService {
         // Check if user already has a booking for this event
         Optional<Booking> existingBooking = bookingRepository.findByUserIdAndEventId(userId, eventId);
         if (existingBooking.isPresent()) {
+            recordOutcome(BookingOutcome.DUPLICATE);
             throw new IllegalStateException("User already has a booking for this event");
         }
         
         // Check if event has available slots
         if (!event.hasAvailableSlots()) {
+            recordOutcome(BookingOutcome.FULL);
             throw new IllegalStateException("No available slots for this event");
         }
         
         // Check if registration is still open
         if (!event.isRegistrationOpen()) {
+            recordOutcome(BookingOutcome.CLOSED);
             throw new IllegalStateException("Registration is closed for this event");
         }
         
@@ -66,19 +139,92 @@ public class BookingService {
         booking.setNotes(notes);
         booking.setEmergencyContact(emergencyContact);
         
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        outboxService.recordBookingEvent(saved, OutboxEvent.EventType.BOOKING_CREATED);
+        bookingAuditService.recordTransition(saved, AuditRecord.Type.CREATED);
+        bookingStatsService.recordBookingCreated(saved);
+        catalogVersionService.eventBookingsChanged(eventId);
+        recordOutcome(BookingOutcome.SUCCESS);
+        return saved;
+    }
+    
+    /**
+     * Count a booking attempt; a success only once its booking is committed. Attempts made by the
+     * JIT warm-up are rolled back and not counted.
+     */
+    private void recordOutcome(BookingOutcome outcome) {
+        if (JitWarmer.WARMUP_TRANSACTION.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return;
+        }
+        Counter counter = outcomeCounters.get(outcome);
+        if (outcome == BookingOutcome.SUCCESS && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.increment();
+                }
+            });
+        } else {
+            counter.increment();
+        }
     }
     
     /**
      * Get bookings by user with pagination
      */
+    @Transactional(readOnly = true)
     public Page<Booking> getBookingsByUser(Long userId, Pageable pageable) {
-        return bookingRepository.findByUserIdWithDetails(userId, pageable);
+        long archived = archivedBookingRepository.countByUserId(userId);
+        if (archived == 0) {
+            return bookingRepository.findByUserIdWithDetails(userId, pageable);
+        }
+        
+        // Newest first across live and archived bookings: the page is cut from the merged
+        // heads of both, each as long as the page's end offset
+        int end = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+        Page<Booking> live = bookingRepository.findByUserIdWithDetails(userId,
+                PageRequest.of(0, end, pageable.getSort()));
+        List<Booking> merged = new ArrayList<>(live.getContent());
+        merged.addAll(getArchivedBookingsByUser(userId, end));
+        merged.sort(Comparator.comparing(Booking::getBookingDate).reversed());
+        
+        List<Booking> content = merged.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, live.getTotalElements() + archived);
+    }
+    
+    /**
+     * A user's newest archived bookings as detached bookings of detached events
+     */
+    private List<Booking> getArchivedBookingsByUser(Long userId, int limit) {
+        List<ArchivedBooking> archived = archivedBookingRepository.findByUserIdOrderByBookingDateDesc(userId,
+                PageRequest.of(0, limit));
+        Map<Long, ArchivedEvent> events = archivedEventRepository.findAllById(
+                        archived.stream().map(ArchivedBooking::getEventId).distinct().toList()).stream()
+                .collect(Collectors.toMap(ArchivedEvent::getId, Function.identity()));
+        Map<Long, Category> categories = categoryRepository.findAllById(
+                        events.values().stream().map(ArchivedEvent::getCategoryId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<Long, Venue> venues = venueRepository.findAllById(
+                        events.values().stream().map(ArchivedEvent::getVenueId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Venue::getId, Function.identity()));
+        User user = userService.getUserById(userId).orElse(null);
+        
+        return archived.stream()
+                .map(booking -> {
+                    ArchivedEvent event = events.get(booking.getEventId());
+                    return booking.toBooking(user, event == null ? null
+                            : event.toEvent(categories.get(event.getCategoryId()), venues.get(event.getVenueId())));
+                })
+                .toList();
     }
     
     /**
      * Get bookings by event
      */
+    @Transactional(readOnly = true)
     public List<Booking> getBookingsByEvent(Long eventId) {
         return bookingRepository.findByEventIdWithConfirmedStatus(eventId);
     }
@@ -86,6 +232,7 @@ public class BookingService {
     /**
      * Get booking by user and event
      */
+    @Transactional(readOnly = true)
     public Optional<Booking> getBookingByUserAndEvent(Long userId, Long eventId) {
         return bookingRepository.findByUserIdAndEventId(userId, eventId);
     }
@@ -93,6 +240,7 @@ public class BookingService {
     /**
      * Get upcoming bookings for user
      */
+    @Transactional(readOnly = true)
     public List<Booking> getUpcomingBookingsByUser(Long userId) {
         return bookingRepository.findUpcomingBookingsByUserId(userId);
     }
@@ -107,9 +255,20 @@ public class BookingService {
         }
         
         Booking booking = bookingOpt.get();
+        Booking.BookingStatus previousStatus = booking.getBookingStatus();
         booking.setBookingStatus(status);
         
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        outboxService.recordBookingEvent(saved, status == Booking.BookingStatus.CANCELLED
+                ? OutboxEvent.EventType.BOOKING_CANCELLED
+                : OutboxEvent.EventType.BOOKING_STATUS_CHANGED);
+        bookingAuditService.recordTransition(saved, status == Booking.BookingStatus.CANCELLED
+                ? AuditRecord.Type.CANCELLED
+                : AuditRecord.Type.STATUS_CHANGED);
+        if (status == Booking.BookingStatus.CANCELLED && previousStatus != Booking.BookingStatus.CANCELLED) {
+            bookingStatsService.recordCancellation(saved);
+        }
+        return saved;
     }
     
     /**
@@ -122,10 +281,17 @@ public class BookingService {
         }
         
         Booking booking = bookingOpt.get();
+        Booking.PaymentStatus previousStatus = booking.getPaymentStatus();
         booking.setPaymentStatus(paymentStatus);
         booking.setPaymentReference(paymentReference);
         
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        outboxService.recordBookingEvent(saved, OutboxEvent.EventType.PAYMENT_STATUS_CHANGED);
+        bookingAuditService.recordTransition(saved, AuditRecord.Type.PAYMENT_CHANGED);
+        if (paymentStatus != previousStatus) {
+            bookingStatsService.recordPaymentStatus(saved);
+        }
+        return saved;
     }
     
     /**
@@ -146,12 +312,17 @@ public class BookingService {
         
         booking.setBookingStatus(Booking.BookingStatus.CANCELLED);
         
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        outboxService.recordBookingEvent(saved, OutboxEvent.EventType.BOOKING_CANCELLED);
+        bookingAuditService.recordTransition(saved, AuditRecord.Type.CANCELLED);
+        bookingStatsService.recordCancellation(saved);
+        return saved;
     }
     
     /**
      * Get booking statistics
      */
+    @Transactional(readOnly = true)
     public long getTotalBookings() {
         return bookingRepository.countTotalBookings();
     }
@@ -159,6 +330,7 @@ public class BookingService {
     /**
      * Get confirmed bookings count for event
      */
+    @Transactional(readOnly = true)
     public long getConfirmedBookingsCount(Long eventId) {
         return bookingRepository.countConfirmedBookingsByEventId(eventId);
     }
@@ -166,6 +338,7 @@ public class BookingService {
     /**
      * Get bookings by payment status
      */
+    @Transactional(readOnly = true)
     public List<Booking> getBookingsByPaymentStatus(Booking.PaymentStatus paymentStatus) {
         return bookingRepository.findByPaymentStatus(paymentStatus);
     }
@@ -173,6 +346,7 @@ public class BookingService {
     /**
      * Get bookings by booking status
      */
+    @Transactional(readOnly = true)
     public List<Booking> getBookingsByBookingStatus(Booking.BookingStatus bookingStatus) {
         return bookingRepository.findByBookingStatus(bookingStatus);
     }
@@ -180,6 +354,7 @@ public class BookingService {
     /**
      * Get recent bookings
      */
+    @Transactional(readOnly = true)
     public Page<Booking> getRecentBookings(LocalDateTime fromDate, Pageable pageable) {
         return bookingRepository.findRecentBookings(fromDate, pageable);
     }
@@ -187,6 +362,7 @@ public class BookingService {
     /**
      * Get bookings for events starting soon
      */
+    @Transactional(readOnly = true)
     public List<Booking> getBookingsForEventsStartingSoon(LocalDateTime endDate) {
         return bookingRepository.findBookingsForEventsStartingSoon(endDate);
     }
@@ -0,0 +1,126 @@
+package com.sportsevents.service;
+
+import com.sportsevents.dto.PaymentCallback;
+import com.sportsevents.dto.StatsSeries;
+import com.sportsevents.model.Booking;
+import com.sportsevents.repository.BookingRepository;
+import com.sportsevents.stats.BookingDimensions;
+import com.sportsevents.stats.BookingStatRow;
+import com.sportsevents.stats.BookingStatsCounters;
+import com.sportsevents.stats.StatKey;
+import com.sportsevents.stats.StatMetric;
+import com.sportsevents.stats.StatScope;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for booking statistics.
+ * Booking transitions increment in-memory counters once their transaction commits,
+ * and time series are read straight from the counters without querying bookings.
+ */
+@Service
+@Timed("sportsevents.service")
+public class BookingStatsService {
+    
+    @Autowired
+    private BookingStatsCounters counters;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Value("${sportsevents.stats.max-window-days:365}")
+    private int maxWindowDays;
+    
+    /**
+     * Count a new booking
+     */
+    public void recordBookingCreated(Booking booking) {
+        record(BookingDimensions.from(booking), StatMetric.BOOKINGS, 1);
+    }
+    
+    /**
+     * Count a booking cancellation
+     */
+    public void recordCancellation(Booking booking) {
+        record(BookingDimensions.from(booking), StatMetric.CANCELLATIONS, 1);
+    }
+    
+    /**
+     * Count a booking's move into its current payment status
+     */
+    public void recordPaymentStatus(Booking booking) {
+        StatMetric metric = StatMetric.forPaymentStatus(booking.getPaymentStatus());
+        if (metric != null) {
+            record(BookingDimensions.from(booking), metric, 1);
+        }
+    }
+    
+    /**
+     * Count payment callbacks that changed a booking's payment status in the current transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPaymentCallbacks(List<PaymentCallback> applied) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        List<Long> bookingIds = applied.stream().map(PaymentCallback::bookingId).toList();
+        for (BookingStatRow row : bookingRepository.aggregateBookingStatsByIds(bookingIds)) {
+            StatMetric metric = StatMetric.forPaymentStatus(row.paymentStatus());
+            if (metric != null) {
+                record(row.dimensions(), metric, row.bookings());
+            }
+        }
+    }
+    
+    /**
+     * Daily series of every metric for a scope over the last {@code days} days, today included
+     */
+    public StatsSeries getSeries(StatScope scope, String key, int days) {
+        int window = Math.max(1, Math.min(days, maxWindowDays));
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(window - 1);
+        
+        Map<StatMetric, Long> totals = new EnumMap<>(StatMetric.class);
+        Map<StatMetric, List<Long>> series = new EnumMap<>(StatMetric.class);
+        for (StatMetric metric : StatMetric.values()) {
+            List<Long> values = new ArrayList<>(window);
+            long total = 0;
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                long value = counters.get(new StatKey(scope, key, metric, day));
+                values.add(value);
+                total += value;
+            }
+            totals.put(metric, total);
+            series.put(metric, values);
+        }
+        return new StatsSeries(scope, key, from, to, totals, series);
+    }
+    
+    private void record(BookingDimensions dimensions, StatMetric metric, long count) {
+        LocalDate day = LocalDate.now();
+        Runnable increment = () -> counters.add(dimensions, metric, day, count);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Only count transitions that actually commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment.run();
+                }
+            });
+        } else {
+            increment.run();
+        }
+    }
+}
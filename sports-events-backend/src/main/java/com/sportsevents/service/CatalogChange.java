@@ -0,0 +1,17 @@
+package com.sportsevents.service;
+
+/**
+ * A committed catalogue change, published by {@link CatalogVersionService} once its version
+ * counters have been bumped; {@code id} is the event id for event changes and 0 otherwise
+ */
+public record CatalogChange(Type type, long id) {
+    
+    public enum Type {
+        EVENT,
+        EVENT_BOOKINGS,
+        CATEGORIES,
+        VENUES,
+        // Everything may have changed, e.g. after missed cluster messages
+        ALL
+    }
+}
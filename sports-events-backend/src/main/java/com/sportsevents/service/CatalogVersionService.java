@@ -0,0 +1,178 @@
+package com.sportsevents.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory version counters for the catalogue, used as ETags for conditional GETs.
+ * Writes bump the counters once their transaction commits, so a request carrying a
+ * current tag can be answered with 304 without touching the cache or the database.
+ * Tags include a per-process epoch and are not shared between nodes; each bump is also published
+ * as a {@link CatalogChange} so other nodes can be told to apply it to their own counters.
+ */
+@Service
+public class CatalogVersionService {
+    
+    // Per-event versions are striped; events sharing a slot only cost each other extra revalidations
+    private static final int EVENT_SLOTS = 4096;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    
+    private final AtomicLong eventsVersion = new AtomicLong();
+    
+    private final AtomicLong categoriesVersion = new AtomicLong();
+    
+    private final AtomicLong venuesVersion = new AtomicLong();
+    
+    // Bumped by view flushes on this node only; other nodes' flushes reach it with the listing period
+    private final AtomicLong viewsVersion = new AtomicLong();
+    
+    private final AtomicLongArray eventVersions = new AtomicLongArray(EVENT_SLOTS);
+    
+    // Event listings embed participant counts, which bookings change without bumping the listing
+    // version, so listing tags also roll over on this period to bound how long a 304 can keep them
+    @Value("${sportsevents.http-cache.listing-tag-period-seconds:60}")
+    private long listingTagPeriodSeconds;
+    
+    // An event's view count changes on every view without bumping its version, so event tags roll
+    // over on this period as well
+    @Value("${sportsevents.http-cache.event-tag-period-seconds:60}")
+    private long eventTagPeriodSeconds;
+    
+    /**
+     * Tag for event listings, searches and facet counts
+     */
+    public String eventListingTag() {
+        long period = System.currentTimeMillis() / 1000 / Math.max(1, listingTagPeriodSeconds);
+        return tag("events", eventsVersion.get(), categoriesVersion.get(), venuesVersion.get(), period);
+    }
+    
+    /**
+     * Tag for the popular events listing, whose ranking also changes with each view flush
+     */
+    public String popularTag() {
+        long period = System.currentTimeMillis() / 1000 / Math.max(1, listingTagPeriodSeconds);
+        return tag("popular", viewsVersion.get(), eventsVersion.get(), categoriesVersion.get(), venuesVersion.get(), period);
+    }
+    
+    /**
+     * Tag for a single event, including the category and venue embedded in it
+     */
+    public String eventTag(long eventId) {
+        long period = System.currentTimeMillis() / 1000 / Math.max(1, eventTagPeriodSeconds);
+        return tag("event-" + eventId, eventVersions.get(slot(eventId)), categoriesVersion.get(), venuesVersion.get(), period);
+    }
+    
+    /**
+     * Tag for category listings
+     */
+    public String categoriesTag() {
+        return tag("categories", categoriesVersion.get());
+    }
+    
+    /**
+     * Tag for venue listings and city names
+     */
+    public String venuesTag() {
+        return tag("venues", venuesVersion.get());
+    }
+    
+    /**
+     * An event was created, updated or deleted
+     */
+    public void eventChanged(long eventId) {
+        afterCommit(new CatalogChange(CatalogChange.Type.EVENT, eventId));
+    }
+    
+    /**
+     * An event's bookings changed, which only affects its participant count
+     */
+    public void eventBookingsChanged(long eventId) {
+        afterCommit(new CatalogChange(CatalogChange.Type.EVENT_BOOKINGS, eventId));
+    }
+    
+    /**
+     * A category was created, updated or deleted
+     */
+    public void categoriesChanged() {
+        afterCommit(new CatalogChange(CatalogChange.Type.CATEGORIES, 0));
+    }
+    
+    /**
+     * A venue was created, updated or deleted
+     */
+    public void venuesChanged() {
+        afterCommit(new CatalogChange(CatalogChange.Type.VENUES, 0));
+    }
+    
+    /**
+     * Event views were flushed to the database, which may reorder the popular listing
+     */
+    public void viewsFlushed() {
+        viewsVersion.incrementAndGet();
+    }
+    
+    /**
+     * Apply a change committed on another node, without publishing it again
+     */
+    public void applyRemote(CatalogChange change) {
+        bump(change);
+    }
+    
+    private void bump(CatalogChange change) {
+        switch (change.type()) {
+            case EVENT -> {
+                eventVersions.incrementAndGet(slot(change.id()));
+                eventsVersion.incrementAndGet();
+            }
+            case EVENT_BOOKINGS -> eventVersions.incrementAndGet(slot(change.id()));
+            case CATEGORIES -> categoriesVersion.incrementAndGet();
+            case VENUES -> venuesVersion.incrementAndGet();
+            // Every tag includes the category or venue version
+            case ALL -> {
+                eventsVersion.incrementAndGet();
+                categoriesVersion.incrementAndGet();
+                venuesVersion.incrementAndGet();
+            }
+        }
+    }
+    
+    private String tag(String name, long... versions) {
+        StringBuilder tag = new StringBuilder("W/\"").append(name).append('-').append(epoch);
+        for (long version : versions) {
+            tag.append('.').append(Long.toString(version, 36));
+        }
+        return tag.append('"').toString();
+    }
+    
+    private static int slot(long eventId) {
+        return (int) Math.floorMod(eventId, (long) EVENT_SLOTS);
+    }
+    
+    private void afterCommit(CatalogChange change) {
+        Runnable apply = () -> {
+            bump(change);
+            eventPublisher.publishEvent(change);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
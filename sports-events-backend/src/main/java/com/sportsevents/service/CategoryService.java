@@ -2,6 +2,7 @@ package com.sportsevents.service;
 
 import com.sportsevents.model.Category;
 import com.sportsevents.repository.CategoryRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -15,16 +16,21 @@ import java.util.Optional;
  * Service for Category operations with caching
  */
 @Service
+@Timed("sportsevents.service")
 @Transactional
 public class CategoryService {
     
     @Autowired
     private CategoryRepository categoryRepository;
     
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
     /**
      * Get all categories (cached)
      */
     @Cacheable("categories")
+    @Transactional(readOnly = true)
     public List<Category> getAllCategories() {
         return categoryRepository.findAllByOrderByNameAsc();
     }
@@ -33,6 +39,7 @@ public class CategoryService {
      * Get categories with active events (cached)
      */
     @Cacheable("categories")
+    @Transactional(readOnly = true)
     public List<Category> getCategoriesWithActiveEvents() {
         return categoryRepository.findCategoriesWithActiveEvents();
     }
@@ -40,6 +47,7 @@ public class CategoryService {
     /**
      * Get category by ID
      */
+    @Transactional(readOnly = true)
     public Optional<Category> getCategoryById(Long id) {
         return categoryRepository.findById(id);
     }
@@ -48,6 +56,7 @@ public class CategoryService {
      * Get category by name (cached)
      */
     @Cacheable("categories")
+    @Transactional(readOnly = true)
     public Optional<Category> getCategoryByName(String name) {
         return categoryRepository.findByName(name);
     }
@@ -57,7 +66,9 @@ public class CategoryService {
      */
     @CacheEvict(value = "categories", allEntries = true)
     public Category createCategory(Category category) {
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        catalogVersionService.categoriesChanged();
+        return saved;
     }
     
     /**
@@ -65,7 +76,9 @@ public class CategoryService {
      */
     @CacheEvict(value = "categories", allEntries = true)
     public Category updateCategory(Category category) {
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        catalogVersionService.categoriesChanged();
+        return saved;
     }
     
     /**
@@ -74,11 +87,13 @@ public class CategoryService {
     @CacheEvict(value = "categories", allEntries = true)
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        catalogVersionService.categoriesChanged();
     }
     
     /**
      * Check if category name exists
      */
+    @Transactional(readOnly = true)
     public boolean categoryNameExists(String name) {
         return categoryRepository.existsByName(name);
     }
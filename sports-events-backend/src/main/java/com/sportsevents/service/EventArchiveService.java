@@ -0,0 +1,154 @@
+package com.sportsevents.service;
+
+import com.sportsevents.index.EventCatalog;
+import com.sportsevents.model.Category;
+import com.sportsevents.model.Event;
+import com.sportsevents.model.Venue;
+import com.sportsevents.repository.EventArchiveJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves events that took place more than {@code horizon-days} ago, with their bookings, into the
+ * {@code events_archive} and {@code bookings_archive} tables. Each batch of {@code batch-size}
+ * events is its own short transaction and batches are spaced by {@code pause-ms}, so row locks
+ * are held briefly and live traffic keeps its share of the connection pool.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "sportsevents.archive.enabled", havingValue = "true")
+public class EventArchiveService {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventArchiveService.class);
+    
+    @Autowired
+    private EventArchiveJdbcRepository eventArchiveJdbcRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private EventCatalog eventCatalog;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.archive.horizon-days:180}")
+    private int horizonDays;
+    
+    @Value("${sportsevents.archive.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${sportsevents.archive.pause-ms:200}")
+    private long pauseMs;
+    
+    private Timer batchTimer;
+    
+    private Counter archivedEvents;
+    
+    private Counter archivedBookings;
+    
+    @PostConstruct
+    void registerMetrics() {
+        batchTimer = Timer.builder("archive.batch")
+                .description("Time to move one batch of events and their bookings to the archive")
+                .register(meterRegistry);
+        archivedEvents = Counter.builder("archive.events")
+                .description("Events moved to the archive")
+                .register(meterRegistry);
+        archivedBookings = Counter.builder("archive.bookings")
+                .description("Bookings moved to the archive")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Archive every event past the horizon, one batch at a time
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.archive.interval-ms:3600000}",
+            initialDelayString = "${sportsevents.archive.interval-ms:3600000}")
+    public void archive() {
+        LocalDateTime horizon = LocalDateTime.now().minusDays(horizonDays);
+        int events = 0;
+        int bookings = 0;
+        List<Long> eventIds;
+        do {
+            eventIds = eventArchiveJdbcRepository.findEventIdsBefore(horizon, batchSize);
+            if (eventIds.isEmpty()) {
+                break;
+            }
+            bookings += archiveBatch(eventIds);
+            events += eventIds.size();
+        } while (eventIds.size() == batchSize && pause());
+        
+        if (events > 0) {
+            log.info("Archived {} events and {} bookings older than {}", events, bookings, horizon);
+        }
+    }
+    
+    private int archiveBatch(List<Long> eventIds) {
+        List<Long> batch = List.copyOf(eventIds);
+        int bookings = batchTimer.record(() -> transactionTemplate.execute(status -> {
+            int moved = eventArchiveJdbcRepository.archiveEvents(batch, LocalDateTime.now());
+            // Bumps the ETag versions and notifies other nodes once the batch commits
+            batch.forEach(catalogVersionService::eventChanged);
+            return moved;
+        }));
+        evict(batch);
+        archivedEvents.increment(batch.size());
+        archivedBookings.increment(bookings);
+        return bookings;
+    }
+    
+    /**
+     * Drop the archived events from this node's catalogue, "events" cache and second-level cache
+     */
+    private void evict(List<Long> eventIds) {
+        Cache secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        for (Long eventId : eventIds) {
+            eventCatalog.remove(eventId);
+            secondLevelCache.evictEntityData(Event.class, eventId);
+        }
+        secondLevelCache.evictCollectionData(Category.class.getName() + ".events");
+        secondLevelCache.evictCollectionData(Venue.class.getName() + ".events");
+        org.springframework.cache.Cache events = cacheManager.getCache("events");
+        if (events != null) {
+            events.clear();
+        }
+    }
+    
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.sportsevents.service;
+
+import com.sportsevents.index.EventCatalog;
+import com.sportsevents.model.Event;
+import com.sportsevents.repository.EventLifecycleJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Moves events through their lifecycle with set-based updates: registration still open when an
+ * event starts is closed, and events that started more than {@code complete-after-hours} ago go
+ * from ACTIVE to COMPLETED, which takes them out of every ACTIVE-filtered query and the catalogue.
+ * Each batch of {@code batch-size} events is its own transaction, and only the cache entries
+ * holding one of the batch's events are evicted.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "sportsevents.event-lifecycle.enabled", havingValue = "true")
+public class EventLifecycleService {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventLifecycleService.class);
+    
+    @Autowired
+    private EventLifecycleJdbcRepository eventLifecycleJdbcRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private EventCatalog eventCatalog;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.event-lifecycle.complete-after-hours:24}")
+    private long completeAfterHours;
+    
+    @Value("${sportsevents.event-lifecycle.batch-size:500}")
+    private int batchSize;
+    
+    private Timer runTimer;
+    
+    private Counter registrationsClosed;
+    
+    private Counter eventsCompleted;
+    
+    private Counter cacheEntriesEvicted;
+    
+    @PostConstruct
+    void registerMetrics() {
+        runTimer = Timer.builder("events.lifecycle.run")
+                .description("Time for one pass of the event lifecycle transitions")
+                .register(meterRegistry);
+        registrationsClosed = Counter.builder("events.lifecycle.registration.closed")
+                .description("Events whose registration was closed at their start")
+                .register(meterRegistry);
+        eventsCompleted = Counter.builder("events.lifecycle.completed")
+                .description("Events moved from ACTIVE to COMPLETED")
+                .register(meterRegistry);
+        cacheEntriesEvicted = Counter.builder("events.lifecycle.cache.evicted")
+                .description("Entries of the events cache evicted because they held a transitioned event")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Apply every transition that is due, at startup and then every {@code interval-ms}
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.event-lifecycle.interval-ms:60000}")
+    public void transition() {
+        runTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime cutoff = now.minusHours(completeAfterHours);
+            int closed = apply(() -> eventLifecycleJdbcRepository.findOpenStarted(now, batchSize),
+                    ids -> eventLifecycleJdbcRepository.closeRegistration(ids, now), false);
+            int completed = apply(() -> eventLifecycleJdbcRepository.findActiveBefore(cutoff, batchSize),
+                    ids -> eventLifecycleJdbcRepository.complete(ids, cutoff, now), true);
+            registrationsClosed.increment(closed);
+            eventsCompleted.increment(completed);
+            if (closed > 0 || completed > 0) {
+                log.info("Closed registration of {} started events and completed {} events before {}",
+                        closed, completed, cutoff);
+            }
+        });
+    }
+    
+    /**
+     * Run one transition batch by batch until no event is left to move; returns the events updated
+     */
+    private int apply(Supplier<List<Long>> scan, Function<List<Long>, Integer> update, boolean leavesCatalog) {
+        int total = 0;
+        List<Long> eventIds;
+        do {
+            eventIds = scan.get();
+            if (eventIds.isEmpty()) {
+                break;
+            }
+            List<Long> batch = List.copyOf(eventIds);
+            int updated = transactionTemplate.execute(status -> {
+                int rows = update.apply(batch);
+                // Bumps the ETag versions and notifies other nodes once the batch commits
+                batch.forEach(catalogVersionService::eventChanged);
+                return rows;
+            });
+            evict(batch, leavesCatalog);
+            total += updated;
+            // Events changed since the scan are skipped by the update; stop rather than rescan them
+            if (updated == 0) {
+                break;
+            }
+        } while (eventIds.size() == batchSize);
+        return total;
+    }
+    
+    /**
+     * Drop the transitioned events from the second-level cache, the catalogue when they are no
+     * longer active, and the "events" cache entries that hold them
+     */
+    private void evict(List<Long> eventIds, boolean leavesCatalog) {
+        Cache secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        for (Long eventId : eventIds) {
+            secondLevelCache.evictEntityData(Event.class, eventId);
+            if (leavesCatalog) {
+                eventCatalog.remove(eventId);
+            }
+        }
+        org.springframework.cache.Cache events = cacheManager.getCache("events");
+        if (events == null) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(eventIds);
+        if (events.getNativeCache() instanceof javax.cache.Cache<?, ?> nativeCache) {
+            List<Object> keys = new ArrayList<>();
+            for (javax.cache.Cache.Entry<?, ?> entry : nativeCache) {
+                if (holdsAny(entry.getValue(), ids)) {
+                    keys.add(entry.getKey());
+                }
+            }
+            keys.forEach(events::evict);
+            cacheEntriesEvicted.increment(keys.size());
+        } else {
+            events.clear();
+        }
+    }
+    
+    private static boolean holdsAny(Object value, Set<Long> eventIds) {
+        if (value instanceof Event event) {
+            return eventIds.contains(event.getId());
+        }
+        Collection<?> content = value instanceof Page<?> page ? page.getContent()
+                : value instanceof Collection<?> collection ? collection : List.of();
+        for (Object element : content) {
+            if (element instanceof Event event && eventIds.contains(event.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,33 +1,72 @@
 package com.sportsevents.service;
 
+import com.sportsevents.dto.FacetCounts;
+import com.sportsevents.dto.NearbyEvent;
+import com.sportsevents.index.EventCatalog;
+import com.sportsevents.index.EventFacets;
+import com.sportsevents.index.FacetFilter;
+import com.sportsevents.index.VenueGeoIndex;
 import com.sportsevents.model.Event;
+import com.sportsevents.repository.BookingRepository;
 import com.sportsevents.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
  * Service for Event operations with caching
  */
 @Service
+@Timed("sportsevents.service")
 @Transactional
 public class EventService {
     
+    // Upper bound on venues joined per nearby query, nearest first
+    private static final int MAX_NEARBY_VENUES = 1000;
+    
     @Autowired
     private EventRepository eventRepository;
     
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private VenueGeoIndex venueGeoIndex;
+    
+    @Autowired
+    private EventCatalog eventCatalog;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     /**
      * Get all active events with open registration (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public Page<Event> getActiveEventsWithOpenRegistration(Pageable pageable) {
         return eventRepository.findActiveEventsWithOpenRegistration(
             Event.EventStatus.ACTIVE, 
@@ -40,14 +79,24 @@ public class EventService {
      * Get event by ID with details (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public Optional<Event> getEventById(Long id) {
         return eventRepository.findByIdWithDetails(id);
     }
     
+    /**
+     * Get managed event by ID, resolved from the second-level cache when present
+     */
+    @Transactional(readOnly = true)
+    public Optional<Event> findEventById(Long id) {
+        return eventRepository.findById(id);
+    }
+    
     /**
      * Get events by category (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public Page<Event> getEventsByCategory(Long categoryId, Pageable pageable) {
         return eventRepository.findByCategoryWithOpenRegistration(
             categoryId, 
@@ -60,6 +109,7 @@ public class EventService {
      * Get events by city (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public Page<Event> getEventsByCity(String city, Pageable pageable) {
         return eventRepository.findByCityWithOpenRegistration(
             city, 
@@ -72,6 +122,7 @@ public class EventService {
      * Get events by event type (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public Page<Event> getEventsByType(Event.EventType eventType, Pageable pageable) {
         return eventRepository.findByEventTypeWithOpenRegistration(
             eventType, 
@@ -84,6 +135,7 @@ public class EventService {
      * Search events (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public Page<Event> searchEvents(String searchTerm, Pageable pageable) {
         return eventRepository.searchEventsWithOpenRegistration(
             searchTerm, 
@@ -96,14 +148,25 @@ public class EventService {
      * Get events with available slots (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public Page<Event> getEventsWithAvailableSlots(Pageable pageable) {
         return eventRepository.findEventsWithAvailableSlots(LocalDateTime.now(), pageable);
     }
     
+    /**
+     * Get upcoming events by popularity. Not cached: the ranking follows the view counts flushed
+     * every few seconds, and responses are already kept by the response cache for a tag period.
+     */
+    @Transactional(readOnly = true)
+    public Page<Event> getPopularEvents(Pageable pageable) {
+        return eventRepository.findMostViewedEvents(LocalDateTime.now(), pageable);
+    }
+    
     /**
      * Get upcoming events (cached)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public List<Event> getUpcomingEvents(LocalDateTime startDate, LocalDateTime endDate) {
         return eventRepository.findUpcomingEvents(startDate, endDate);
     }
@@ -112,18 +175,75 @@ public class EventService {
      * Get events starting soon (next 7 days)
      */
     @Cacheable("events")
+    @Transactional(readOnly = true)
     public List<Event> getEventsStartingSoon() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime weekFromNow = now.plusDays(7);
         return eventRepository.findEventsStartingSoon(now, weekFromNow);
     }
     
+    /**
+     * Get upcoming events within a radius of a location, nearest venue first
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyEvent> getEventsNearby(double latitude, double longitude, double radiusKm, int limit) {
+        List<VenueGeoIndex.VenueDistance> venues = venueGeoIndex.findWithinRadius(latitude, longitude, radiusKm);
+        if (venues.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Double> distanceByVenue = new LinkedHashMap<>();
+        for (VenueGeoIndex.VenueDistance venue : venues) {
+            if (distanceByVenue.size() >= MAX_NEARBY_VENUES) {
+                break;
+            }
+            distanceByVenue.put(venue.venueId(), venue.distanceKm());
+        }
+        
+        // Events arrive in date order; the stable sort keeps that order within a venue
+        return eventRepository.findUpcomingEventsByVenueIds(distanceByVenue.keySet(), LocalDateTime.now())
+                .stream()
+                .map(event -> new NearbyEvent(event, distanceByVenue.get(event.getVenue().getId())))
+                .sorted(Comparator.comparingDouble(NearbyEvent::distanceKm))
+                .limit(limit)
+                .toList();
+    }
+    
+    /**
+     * Filter active events by any combination of facets using the in-memory catalogue
+     */
+    @Transactional(readOnly = true)
+    public Page<Event> filterEvents(FacetFilter filter, Pageable pageable) {
+        EventCatalog.CatalogPage page = eventCatalog.query(filter, pageable.getOffset(), pageable.getPageSize());
+        
+        // Multi-load resolves ids from the second-level cache first and keeps the catalogue's order
+        List<Event> events = entityManager.unwrap(Session.class)
+                .byMultipleIds(Event.class)
+                .multiLoad(page.eventIds())
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(events, pageable, page.total());
+    }
+    
+    /**
+     * Count active events per facet value under a filter selection. Answered from the in-memory
+     * catalogue, so it runs without a transaction or a pooled connection.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FacetCounts getFacetCounts(FacetFilter filter) {
+        return eventCatalog.facetCounts(filter);
+    }
+    
     /**
      * Create new event (evicts cache)
      */
     @CacheEvict(value = "events", allEntries = true)
     public Event createEvent(Event event) {
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        syncCatalog(saved);
+        catalogVersionService.eventChanged(saved.getId());
+        return saved;
     }
     
     /**
@@ -131,7 +251,11 @@ public class EventService {
      */
     @CacheEvict(value = "events", allEntries = true)
     public Event updateEvent(Event event) {
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        bookingRepository.updateEventDate(saved.getId(), saved.getEventDate());
+        syncCatalog(saved);
+        catalogVersionService.eventChanged(saved.getId());
+        return saved;
     }
     
     /**
@@ -140,11 +264,14 @@ public class EventService {
     @CacheEvict(value = "events", allEntries = true)
     public void deleteEvent(Long id) {
         eventRepository.deleteById(id);
+        afterCommit(() -> eventCatalog.remove(id));
+        catalogVersionService.eventChanged(id);
     }
     
     /**
      * Get event statistics
      */
+    @Transactional(readOnly = true)
     public long getTotalActiveEvents() {
         return eventRepository.countByStatus(Event.EventStatus.ACTIVE);
     }
@@ -152,6 +279,7 @@ public class EventService {
     /**
      * Check if event has available slots
      */
+    @Transactional(readOnly = true)
     public boolean hasAvailableSlots(Long eventId) {
         Optional<Event> eventOpt = eventRepository.findById(eventId);
         if (eventOpt.isPresent()) {
@@ -164,6 +292,7 @@ public class EventService {
     /**
      * Check if registration is open for event
      */
+    @Transactional(readOnly = true)
     public boolean isRegistrationOpen(Long eventId) {
         Optional<Event> eventOpt = eventRepository.findById(eventId);
         if (eventOpt.isPresent()) {
@@ -172,4 +301,32 @@ public class EventService {
         }
         return false;
     }
+    
+    private void syncCatalog(Event event) {
+        // Facets are read while the category and venue can still be loaded
+        if (event.getStatus() == Event.EventStatus.ACTIVE) {
+            EventFacets facets = EventFacets.from(event);
+            afterCommit(() -> eventCatalog.upsert(facets));
+        } else {
+            Long eventId = event.getId();
+            afterCommit(() -> eventCatalog.remove(eventId));
+        }
+    }
+    
+    /**
+     * Apply a change to the catalogue once the transaction commits, so a failed write leaves the
+     * facets untouched and other threads never count uncommitted events
+     */
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
 }
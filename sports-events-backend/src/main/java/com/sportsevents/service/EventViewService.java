@@ -0,0 +1,102 @@
+package com.sportsevents.service;
+
+import com.sportsevents.repository.EventViewJdbcRepository;
+import com.sportsevents.stats.EventViewCounters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for event page view counts.
+ * Views are counted in memory and merged into event_views by {@link com.sportsevents.stats.EventViewFlusher};
+ * the count shown on an event is its stored total plus the views not flushed yet. Stored totals are
+ * kept between flushes, so a page of events costs at most one query per flush interval.
+ */
+@Service
+public class EventViewService {
+    
+    @Autowired
+    private EventViewCounters eventViewCounters;
+    
+    @Autowired
+    private EventViewJdbcRepository eventViewJdbcRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.event-views.max-tracked-events:50000}")
+    private int maxTrackedEvents;
+    
+    // Stored totals read since the last flush
+    private final Map<Long, Long> storedViews = new ConcurrentHashMap<>();
+    
+    private Counter droppedCounter;
+    
+    @PostConstruct
+    void registerMetrics() {
+        droppedCounter = Counter.builder("events.views.dropped")
+                .description("Event views not counted because too many events were tracked between flushes")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Count a view of an event page
+     */
+    public void recordView(long eventId) {
+        if (!eventViewCounters.record(eventId)) {
+            droppedCounter.increment();
+        }
+    }
+    
+    /**
+     * Number of times each event was viewed, including views not flushed yet
+     */
+    public Map<Long, Long> getViewCounts(Collection<Long> eventIds) {
+        Map<Long, Long> stored = stored(eventIds.stream().filter(Objects::nonNull).distinct().toList());
+        Map<Long, Long> counts = new HashMap<>();
+        stored.forEach((eventId, views) -> counts.put(eventId, views + eventViewCounters.pending(eventId)));
+        return counts;
+    }
+    
+    /**
+     * Forget the stored totals after a flush changed them, or another node may have
+     */
+    public void storedViewsChanged() {
+        storedViews.clear();
+    }
+    
+    private Map<Long, Long> stored(List<Long> eventIds) {
+        Map<Long, Long> stored = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            Long views = storedViews.get(eventId);
+            if (views != null) {
+                stored.put(eventId, views);
+            } else {
+                missing.add(eventId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Long> loaded = eventViewJdbcRepository.findViews(missing);
+            for (Long eventId : missing) {
+                long views = loaded.getOrDefault(eventId, 0L);
+                stored.put(eventId, views);
+                if (storedViews.size() < maxTrackedEvents) {
+                    storedViews.put(eventId, views);
+                }
+            }
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,57 @@
+package com.sportsevents.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sportsevents.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Outbox sink that appends events as JSON lines to a local file, standing in for downstream systems
+ */
+@Component
+@ConditionalOnProperty(name = "sportsevents.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${sportsevents.outbox.file.path:outbox/booking-events.jsonl}")
+    private Path path;
+    
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxEvent event : events) {
+                    ObjectNode line = objectMapper.createObjectNode();
+                    line.put("id", event.getId());
+                    line.put("aggregateType", event.getAggregateType());
+                    line.put("aggregateId", event.getAggregateId());
+                    line.put("eventType", event.getEventType().name());
+                    line.put("createdAt", event.getCreatedAt().toString());
+                    line.set("payload", objectMapper.readTree(event.getPayload()));
+                    writer.write(objectMapper.writeValueAsString(line));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox events to " + path, e);
+        }
+    }
+}
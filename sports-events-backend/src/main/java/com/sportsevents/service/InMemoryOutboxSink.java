@@ -0,0 +1,48 @@
+package com.sportsevents.service;
+
+import com.sportsevents.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Outbox sink that keeps the most recent events in memory, for local development and tests
+ */
+@Component
+@ConditionalOnProperty(name = "sportsevents.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+    
+    @Value("${sportsevents.outbox.memory.max-events:10000}")
+    private int maxEvents;
+    
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+    
+    @Override
+    public synchronized void publish(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            if (events.size() >= maxEvents) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+    
+    /**
+     * Snapshot of the retained events, oldest first
+     */
+    public synchronized List<OutboxEvent> getPublishedEvents() {
+        return new ArrayList<>(events);
+    }
+    
+    /**
+     * Drop all retained events
+     */
+    public synchronized void clear() {
+        events.clear();
+    }
+}
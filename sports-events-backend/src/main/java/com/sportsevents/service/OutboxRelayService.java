@@ -0,0 +1,129 @@
+package com.sportsevents.service;
+
+import com.sportsevents.model.OutboxEvent;
+import com.sportsevents.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service that relays outbox events to the configured sink in batches.
+ * Each batch is locked, published and marked in one transaction, so concurrent
+ * relays on several nodes skip each other's rows and delivery is at-least-once.
+ */
+@Service
+@Lazy(false)
+public class OutboxRelayService {
+    
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayService.class);
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private OutboxSink outboxSink;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.outbox.relay.batch-size:200}")
+    private int batchSize;
+    
+    @Value("${sportsevents.outbox.relay.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll;
+    
+    @Value("${sportsevents.outbox.retention-hours:24}")
+    private long retentionHours;
+    
+    private final AtomicLong pendingEvents = new AtomicLong();
+    
+    private Counter publishedCounter;
+    
+    private Counter failedCounter;
+    
+    private Timer lagTimer;
+    
+    @PostConstruct
+    void registerMetrics() {
+        publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events delivered to the sink")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("outbox.relay.failures")
+                .description("Outbox batches that failed to publish")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("outbox.events.lag")
+                .description("Time from outbox write to delivery")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.pending", pendingEvents, AtomicLong::get)
+                .description("Unpublished outbox events at the last poll")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Poll the outbox and publish until it is drained or the per-poll limit is reached
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                Integer published = transactionTemplate.execute(status -> publishBatch());
+                if (published == null || published < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Outbox relay failed, batch will be retried", e);
+        }
+        pendingEvents.set(outboxEventRepository.countByPublishedAtIsNull());
+    }
+    
+    /**
+     * Remove published events past the retention window
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+    
+    private int publishBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findUnpublishedForUpdate(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        outboxSink.publish(batch);
+        
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : batch) {
+            event.setPublishedAt(now);
+            lagTimer.record(Duration.between(event.getCreatedAt(), now));
+        }
+        publishedCounter.increment(batch.size());
+        return batch.size();
+    }
+}
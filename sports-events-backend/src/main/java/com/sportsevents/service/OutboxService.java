@@ -0,0 +1,96 @@
+package com.sportsevents.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsevents.dto.BookingPaymentState;
+import com.sportsevents.model.Booking;
+import com.sportsevents.model.OutboxEvent;
+import com.sportsevents.repository.OutboxEventJdbcRepository;
+import com.sportsevents.repository.OutboxEventRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for writing booking lifecycle events to the transactional outbox.
+ * Must be called inside the transaction that changes the booking.
+ */
+@Service
+@Timed("sportsevents.service")
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+    
+    private static final String BOOKING_AGGREGATE = "Booking";
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Record a booking lifecycle event
+     */
+    public OutboxEvent recordBookingEvent(Booking booking, OutboxEvent.EventType eventType) {
+        String payload = payload(booking.getId(),
+                booking.getUser() != null ? booking.getUser().getId() : null,
+                booking.getEvent() != null ? booking.getEvent().getId() : null,
+                booking.getBookingStatus(), booking.getPaymentStatus(),
+                booking.getPaymentReference(), booking.getTotalAmount());
+        
+        OutboxEvent event = new OutboxEvent(BOOKING_AGGREGATE, booking.getId(), eventType, payload);
+        return outboxEventRepository.save(event);
+    }
+    
+    /**
+     * Record payment status changes applied by the webhook batch writer, from the bookings as read
+     * back after the update, so the payload has the same shape as one from recordBookingEvent
+     */
+    public void recordPaymentChanges(List<BookingPaymentState> states) {
+        List<OutboxEvent> events = new ArrayList<>(states.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (BookingPaymentState state : states) {
+            String payload = payload(state.bookingId(), state.userId(), state.eventId(), state.bookingStatus(),
+                    state.paymentStatus(), state.paymentReference(), state.totalAmount());
+            
+            OutboxEvent event = new OutboxEvent(BOOKING_AGGREGATE, state.bookingId(),
+                    OutboxEvent.EventType.PAYMENT_STATUS_CHANGED, payload);
+            event.setCreatedAt(now);
+            events.add(event);
+        }
+        outboxEventJdbcRepository.batchInsert(events);
+    }
+    
+    private String payload(Long bookingId, Long userId, Long eventId, Booking.BookingStatus bookingStatus,
+                           Booking.PaymentStatus paymentStatus, String paymentReference, BigDecimal totalAmount) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("bookingId", bookingId);
+        payload.put("userId", userId);
+        payload.put("eventId", eventId);
+        payload.put("bookingStatus", bookingStatus);
+        payload.put("paymentStatus", paymentStatus);
+        payload.put("paymentReference", paymentReference);
+        payload.put("totalAmount", totalAmount);
+        return toJson(payload);
+    }
+    
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sportsevents.service;
+
+import com.sportsevents.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events (message broker, CRM, email gateway, ...)
+ */
+public interface OutboxSink {
+    
+    /**
+     * Publish a batch of events in id order; throwing leaves the batch unpublished for the next poll
+     */
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,161 @@
+package com.sportsevents.service;
+
+import com.sportsevents.dto.BookingPaymentState;
+import com.sportsevents.dto.PaymentCallback;
+import com.sportsevents.repository.BookingPaymentJdbcRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service for high-throughput payment webhook ingestion.
+ * Callbacks are acknowledged immediately and buffered per booking, so a replayed
+ * settlement file collapses to one UPDATE per booking, written in JDBC batches.
+ */
+@Service
+@Timed("sportsevents.service")
+public class PaymentWebhookService {
+    
+    private static final Logger log = LoggerFactory.getLogger(PaymentWebhookService.class);
+    
+    @Autowired
+    private BookingPaymentJdbcRepository bookingPaymentJdbcRepository;
+    
+    @Autowired
+    private OutboxService outboxService;
+    
+    @Autowired
+    private BookingStatsService bookingStatsService;
+    
+    @Autowired
+    private BookingAuditService bookingAuditService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${sportsevents.payments.webhook.buffer-capacity:50000}")
+    private int bufferCapacity;
+    
+    @Value("${sportsevents.payments.webhook.batch-size:500}")
+    private int batchSize;
+    
+    // Latest callback per booking; a newer callback for the same booking replaces the pending one
+    private final ConcurrentHashMap<Long, PaymentCallback> pending = new ConcurrentHashMap<>();
+    
+    private final ReentrantLock drainLock = new ReentrantLock();
+    
+    /**
+     * Queue a callback, returns false when the buffer is full
+     */
+    public boolean enqueue(PaymentCallback callback) {
+        if (pending.size() >= bufferCapacity && !pending.containsKey(callback.bookingId())) {
+            return false;
+        }
+        pending.put(callback.bookingId(), callback);
+        return true;
+    }
+    
+    /**
+     * Queue a list of callbacks, returns the number accepted
+     */
+    public int enqueueAll(List<PaymentCallback> callbacks) {
+        int accepted = 0;
+        for (PaymentCallback callback : callbacks) {
+            if (!enqueue(callback)) {
+                break;
+            }
+            accepted++;
+        }
+        return accepted;
+    }
+    
+    /**
+     * Number of bookings with a pending payment update
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+    
+    /**
+     * Drain the buffer into batched UPDATEs, one transaction per batch
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.payments.webhook.flush-interval-ms:200}")
+    public void flush() {
+        if (pending.isEmpty() || !drainLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+    
+    /**
+     * Write out anything still buffered before shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        drainLock.lock();
+        try {
+            drain();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+    
+    private void drain() {
+        List<PaymentCallback> batch = new ArrayList<>(batchSize);
+        Iterator<Long> keys = pending.keySet().iterator();
+        while (keys.hasNext()) {
+            PaymentCallback callback = pending.remove(keys.next());
+            if (callback != null) {
+                batch.add(callback);
+            }
+            if (batch.size() >= batchSize) {
+                if (!writeBatch(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+    
+    private boolean writeBatch(List<PaymentCallback> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<PaymentCallback> applied = bookingPaymentJdbcRepository.batchUpdatePaymentStatus(batch);
+                List<BookingPaymentState> states = bookingPaymentJdbcRepository.findPaymentStates(
+                        applied.stream().map(PaymentCallback::bookingId).toList());
+                outboxService.recordPaymentChanges(states);
+                bookingStatsService.recordPaymentCallbacks(applied);
+                bookingAuditService.recordPaymentChanges(states);
+                if (applied.size() < batch.size()) {
+                    log.debug("Payment webhook batch of {} changed {} bookings, the rest were unknown or duplicates",
+                            batch.size(), applied.size());
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            // Put the batch back unless a newer callback arrived in the meantime
+            batch.forEach(callback -> pending.putIfAbsent(callback.bookingId(), callback));
+            log.error("Failed to write payment webhook batch of {}, will retry", batch.size(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sportsevents.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Periodic online snapshots of the file-backed H2 database.
+ * {@code BACKUP TO} copies a consistent view of the store into a zip while the application
+ * keeps writing; restoring is unzipping the newest snapshot into the storage path.
+ */
+@Service
+@Lazy(false)
+@ConditionalOnProperty(name = "sportsevents.storage.snapshot.enabled", havingValue = "true")
+public class StorageSnapshotService {
+    
+    private static final Logger log = LoggerFactory.getLogger(StorageSnapshotService.class);
+    
+    private static final String PREFIX = "sportsevents-";
+    
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.storage.snapshot.directory:./data/snapshots}")
+    private String directory;
+    
+    @Value("${sportsevents.storage.snapshot.keep:24}")
+    private int keep;
+    
+    private Timer snapshotTimer;
+    
+    @PostConstruct
+    void registerMetrics() {
+        snapshotTimer = Timer.builder("storage.snapshot")
+                .description("Time to write an online database snapshot")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Write a snapshot and prune the oldest beyond the retention count
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.storage.snapshot.interval-ms:3600000}",
+            initialDelayString = "${sportsevents.storage.snapshot.interval-ms:3600000}")
+    public void snapshot() {
+        try {
+            Path dir = Paths.get(directory).toAbsolutePath();
+            Files.createDirectories(dir);
+            Path target = dir.resolve(PREFIX + LocalDateTime.now().format(TIMESTAMP) + ".zip");
+            
+            // BACKUP takes no bind parameters, so the path is inlined as a quoted literal
+            String literal = target.toString().replace("'", "''");
+            snapshotTimer.record(() -> jdbcTemplate.execute("BACKUP TO '" + literal + "'"));
+            log.info("Wrote database snapshot {} ({} bytes)", target, Files.size(target));
+            
+            prune(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write database snapshot to " + directory, e);
+        }
+    }
+    
+    private void prune(Path dir) throws IOException {
+        List<Path> snapshots;
+        try (Stream<Path> files = Files.list(dir)) {
+            // Timestamped names sort oldest first
+            snapshots = files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(".zip"))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < snapshots.size() - keep; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sportsevents.service;
 
 import com.sportsevents.model.User;
 import com.sportsevents.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +14,7 @@ import java.util.Optional;
  * Service for User operations
  */
 @Service
+@Timed("sportsevents.service")
 @Transactional
 public class UserService {
     
@@ -22,6 +24,7 @@ public class UserService {
     /**
      * Get user by ID
      */
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
@@ -29,6 +32,7 @@ public class UserService {
     /**
      * Get user by email
      */
+    @Transactional(readOnly = true)
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -36,6 +40,7 @@ public class UserService {
     /**
      * Get users by city
      */
+    @Transactional(readOnly = true)
     public List<User> getUsersByCity(String city) {
         return userRepository.findByCity(city);
     }
@@ -43,6 +48,7 @@ public class UserService {
     /**
      * Get users with upcoming bookings
      */
+    @Transactional(readOnly = true)
     public List<User> getUsersWithUpcomingBookings() {
         return userRepository.findUsersWithUpcomingBookings();
     }
@@ -71,6 +77,7 @@ public class UserService {
     /**
      * Check if email exists
      */
+    @Transactional(readOnly = true)
     public boolean emailExists(String email) {
         return userRepository.existsByEmail(email);
     }
@@ -78,6 +85,7 @@ public class UserService {
     /**
      * Get total user count
      */
+    @Transactional(readOnly = true)
     public long getTotalUserCount() {
         return userRepository.countTotalUsers();
     }
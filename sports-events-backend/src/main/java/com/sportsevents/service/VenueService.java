@@ -1,7 +1,12 @@
 package com.sportsevents.service;
 
+import com.sportsevents.index.EventCatalog;
+import com.sportsevents.index.EventFacets;
+import com.sportsevents.index.VenueGeoIndex;
 import com.sportsevents.model.Venue;
+import com.sportsevents.repository.EventRepository;
 import com.sportsevents.repository.VenueRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -9,6 +14,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,15 +24,29 @@ import java.util.Optional;
  * Service for Venue operations with caching
  */
 @Service
+@Timed("sportsevents.service")
 @Transactional
 public class VenueService {
     
     @Autowired
     private VenueRepository venueRepository;
     
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private VenueGeoIndex venueGeoIndex;
+    
+    @Autowired
+    private EventCatalog eventCatalog;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
     /**
      * Get all venues with pagination
      */
+    @Transactional(readOnly = true)
     public Page<Venue> getAllVenues(Pageable pageable) {
         return venueRepository.findAll(pageable);
     }
@@ -34,6 +55,7 @@ public class VenueService {
      * Get venues by city (cached)
      */
     @Cacheable("venues")
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesByCity(String city) {
         return venueRepository.findByCityOrderByNameAsc(city);
     }
@@ -42,6 +64,7 @@ public class VenueService {
      * Get all cities (cached)
      */
     @Cacheable("venues")
+    @Transactional(readOnly = true)
     public List<String> getAllCities() {
         return venueRepository.findAllCities();
     }
@@ -50,6 +73,7 @@ public class VenueService {
      * Get venues with upcoming events (cached)
      */
     @Cacheable("venues")
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesWithUpcomingEvents() {
         return venueRepository.findVenuesWithUpcomingEvents();
     }
@@ -57,6 +81,7 @@ public class VenueService {
     /**
      * Get venue by ID
      */
+    @Transactional(readOnly = true)
     public Optional<Venue> getVenueById(Long id) {
         return venueRepository.findById(id);
     }
@@ -65,6 +90,7 @@ public class VenueService {
      * Get venue by name (cached)
      */
     @Cacheable("venues")
+    @Transactional(readOnly = true)
     public Optional<Venue> getVenueByName(String name) {
         return venueRepository.findByName(name);
     }
@@ -73,6 +99,7 @@ public class VenueService {
      * Search venues (cached)
      */
     @Cacheable("venues")
+    @Transactional(readOnly = true)
     public Page<Venue> searchVenues(String searchTerm, Pageable pageable) {
         return venueRepository.searchVenues(searchTerm, pageable);
     }
@@ -81,6 +108,7 @@ public class VenueService {
      * Get venues with minimum capacity (cached)
      */
     @Cacheable("venues")
+    @Transactional(readOnly = true)
     public List<Venue> getVenuesByCapacity(Integer minCapacity) {
         return venueRepository.findByCapacityGreaterThanEqual(minCapacity);
     }
@@ -90,7 +118,10 @@ public class VenueService {
      */
     @CacheEvict(value = "venues", allEntries = true)
     public Venue createVenue(Venue venue) {
-        return venueRepository.save(venue);
+        Venue saved = venueRepository.save(venue);
+        afterCommit(() -> venueGeoIndex.put(saved.getId(), saved.getLatitude(), saved.getLongitude()));
+        catalogVersionService.venuesChanged();
+        return saved;
     }
     
     /**
@@ -98,7 +129,13 @@ public class VenueService {
      */
     @CacheEvict(value = "venues", allEntries = true)
     public Venue updateVenue(Venue venue) {
-        return venueRepository.save(venue);
+        Venue saved = venueRepository.save(venue);
+        afterCommit(() -> venueGeoIndex.put(saved.getId(), saved.getLatitude(), saved.getLongitude()));
+        // The venue's events are indexed under its location; the query flushes the change first
+        List<EventFacets> events = eventRepository.findActiveEventFacetsByVenue(saved.getId());
+        afterCommit(() -> events.forEach(eventCatalog::upsert));
+        catalogVersionService.venuesChanged();
+        return saved;
     }
     
     /**
@@ -107,5 +144,24 @@ public class VenueService {
     @CacheEvict(value = "venues", allEntries = true)
     public void deleteVenue(Long id) {
         venueRepository.deleteById(id);
+        afterCommit(() -> venueGeoIndex.remove(id));
+        catalogVersionService.venuesChanged();
+    }
+    
+    /**
+     * Apply a change to the geo index or the catalogue once the transaction commits, so a rollback
+     * leaves them untouched and other threads never see uncommitted venues
+     */
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
     }
 }
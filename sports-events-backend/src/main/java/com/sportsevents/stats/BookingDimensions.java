@@ -0,0 +1,43 @@
+package com.sportsevents.stats;
+
+import com.sportsevents.model.Booking;
+import com.sportsevents.model.Event;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event, category and city a booking is counted under
+ */
+public record BookingDimensions(Long eventId, Long categoryId, String city) {
+    
+    /**
+     * Read the dimensions from a booking; must run while its event and venue can still be loaded
+     */
+    public static BookingDimensions from(Booking booking) {
+        Event event = booking.getEvent();
+        return new BookingDimensions(
+                event.getId(),
+                event.getCategory() != null ? event.getCategory().getId() : null,
+                event.getVenue() != null ? event.getVenue().getCity() : null);
+    }
+    
+    /**
+     * Scope and key pairs this booking contributes to, including the platform-wide total
+     */
+    List<StatKey> keys(StatMetric metric, LocalDate day) {
+        List<StatKey> keys = new ArrayList<>(4);
+        keys.add(new StatKey(StatScope.ALL, "", metric, day));
+        if (eventId != null) {
+            keys.add(new StatKey(StatScope.EVENT, eventId.toString(), metric, day));
+        }
+        if (categoryId != null) {
+            keys.add(new StatKey(StatScope.CATEGORY, categoryId.toString(), metric, day));
+        }
+        if (city != null) {
+            keys.add(new StatKey(StatScope.CITY, city, metric, day));
+        }
+        return keys;
+    }
+}
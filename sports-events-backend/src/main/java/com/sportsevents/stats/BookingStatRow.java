@@ -0,0 +1,18 @@
+package com.sportsevents.stats;
+
+import com.sportsevents.model.Booking;
+
+import java.time.LocalDate;
+
+/**
+ * Booking count grouped by dimensions, creation day, last update day and current statuses
+ */
+public record BookingStatRow(Long eventId, Long categoryId, String city,
+                             LocalDate createdOn, LocalDate updatedOn,
+                             Booking.BookingStatus bookingStatus, Booking.PaymentStatus paymentStatus,
+                             Long bookings) {
+    
+    public BookingDimensions dimensions() {
+        return new BookingDimensions(eventId, categoryId, city);
+    }
+}
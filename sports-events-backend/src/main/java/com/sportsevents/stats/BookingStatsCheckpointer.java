@@ -0,0 +1,141 @@
+package com.sportsevents.stats;
+
+import com.sportsevents.model.Booking;
+import com.sportsevents.repository.BookingRepository;
+import com.sportsevents.repository.BookingStatJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Restores the booking counters at startup and periodically adds what was counted since to booking_stats.
+ * When no checkpoint exists yet the counters are rebuilt once from a grouped booking query.
+ */
+@Component
+@Lazy(false)
+public class BookingStatsCheckpointer {
+    
+    private static final Logger log = LoggerFactory.getLogger(BookingStatsCheckpointer.class);
+    
+    @Autowired
+    private BookingStatsCounters counters;
+    
+    @Autowired
+    private BookingStatJdbcRepository bookingStatJdbcRepository;
+    
+    @Autowired
+    private BookingRepository bookingRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${sportsevents.stats.retention-days:400}")
+    private int retentionDays;
+    
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    
+    // Checkpoints wait for the restore, which sets the baseline the deltas are counted from
+    private volatile boolean restored;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        LocalDate since = LocalDate.now().minusDays(retentionDays);
+        List<Map.Entry<StatKey, Long>> checkpoint = bookingStatJdbcRepository.findSince(since);
+        if (!checkpoint.isEmpty()) {
+            checkpoint.forEach(entry -> counters.restore(entry.getKey(), entry.getValue()));
+            log.info("Booking statistics restored from {} checkpointed counters", checkpoint.size());
+        } else {
+            List<BookingStatRow> rows = transactionTemplate.execute(status -> bookingRepository.aggregateBookingStats());
+            Map<StatKey, Long> rebuilt = new HashMap<>();
+            rows.forEach(row -> rebuild(row, rebuilt));
+            // Another node starting at the same time may have rebuilt first; its values are kept
+            transactionTemplate.executeWithoutResult(status ->
+                    bookingStatJdbcRepository.batchInsertIfAbsent(new ArrayList<>(rebuilt.entrySet())));
+            // The query already counted every booking committed so far, so what was counted in
+            // memory before it is dropped rather than added a second time
+            counters.replaceAll(bookingStatJdbcRepository.findSince(since));
+            log.info("Booking statistics rebuilt from {} booking groups", rows.size());
+        }
+        restored = true;
+    }
+    
+    /**
+     * Write counters changed since the last checkpoint and drop expired days from memory
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.stats.checkpoint-interval-ms:5000}")
+    public void checkpoint() {
+        if (!restored || !checkpointLock.tryLock()) {
+            return;
+        }
+        try {
+            write();
+            counters.evictBefore(LocalDate.now().minusDays(retentionDays));
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+    
+    /**
+     * Write out pending counters before shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!restored) {
+            return;
+        }
+        checkpointLock.lock();
+        try {
+            write();
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+    
+    private void write() {
+        List<Map.Entry<StatKey, Long>> changed = counters.drainDirty();
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> bookingStatJdbcRepository.batchAddDeltas(changed));
+            counters.markCheckpointed(changed);
+        } catch (RuntimeException e) {
+            counters.markDirty(changed.stream().map(Map.Entry::getKey).toList());
+            log.error("Failed to checkpoint {} booking statistics counters, will retry", changed.size(), e);
+        }
+    }
+    
+    private void rebuild(BookingStatRow row, Map<StatKey, Long> rebuilt) {
+        BookingDimensions dimensions = row.dimensions();
+        add(rebuilt, dimensions, StatMetric.BOOKINGS, row.createdOn(), row.bookings());
+        if (row.bookingStatus() == Booking.BookingStatus.CANCELLED) {
+            add(rebuilt, dimensions, StatMetric.CANCELLATIONS, row.updatedOn(), row.bookings());
+        }
+        StatMetric payment = StatMetric.forPaymentStatus(row.paymentStatus());
+        if (payment != null) {
+            add(rebuilt, dimensions, payment, row.updatedOn(), row.bookings());
+        }
+    }
+    
+    private static void add(Map<StatKey, Long> rebuilt, BookingDimensions dimensions, StatMetric metric,
+                            LocalDate day, long count) {
+        for (StatKey key : dimensions.keys(metric, day)) {
+            rebuilt.merge(key, count, Long::sum);
+        }
+    }
+}
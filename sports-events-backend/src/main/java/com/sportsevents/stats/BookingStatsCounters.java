@@ -0,0 +1,114 @@
+package com.sportsevents.stats;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory booking counters per scope, metric and day.
+ * Each counter is a striped LongAdder, so concurrent bookings for the same event do not
+ * contend on one cell; keys changed since the last checkpoint are tracked as dirty.
+ * Every counter also keeps the part of its value already in booking_stats, so a checkpoint
+ * only adds what this node counted since, and nodes sharing the table do not overwrite each other.
+ */
+@Component
+public class BookingStatsCounters {
+    
+    private final ConcurrentHashMap<StatKey, LongAdder> counters = new ConcurrentHashMap<>();
+    
+    private final Set<StatKey> dirty = ConcurrentHashMap.newKeySet();
+    
+    // Value of each counter already written to, or restored from, booking_stats
+    private final ConcurrentHashMap<StatKey, Long> checkpointed = new ConcurrentHashMap<>();
+    
+    /**
+     * Add to the metric under every scope of a booking
+     */
+    public void add(BookingDimensions dimensions, StatMetric metric, LocalDate day, long delta) {
+        for (StatKey key : dimensions.keys(metric, day)) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            dirty.add(key);
+        }
+    }
+    
+    /**
+     * Add a checkpointed value without marking the key dirty
+     */
+    public void restore(StatKey key, long value) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(value);
+        checkpointed.merge(key, value, Long::sum);
+    }
+    
+    /**
+     * Replace every counter with checkpointed values, dropping whatever was counted before
+     */
+    public void replaceAll(List<Map.Entry<StatKey, Long>> values) {
+        counters.clear();
+        dirty.clear();
+        checkpointed.clear();
+        values.forEach(entry -> restore(entry.getKey(), entry.getValue()));
+    }
+    
+    /**
+     * Current value of a counter, zero if it was never incremented
+     */
+    public long get(StatKey key) {
+        LongAdder counter = counters.get(key);
+        return counter != null ? counter.sum() : 0;
+    }
+    
+    /**
+     * Take the keys changed since the last call with what was counted since their last checkpoint
+     */
+    public List<Map.Entry<StatKey, Long>> drainDirty() {
+        List<Map.Entry<StatKey, Long>> changed = new ArrayList<>(dirty.size());
+        Iterator<StatKey> keys = dirty.iterator();
+        while (keys.hasNext()) {
+            StatKey key = keys.next();
+            // Remove before reading, so an increment racing with the read re-marks the key
+            keys.remove();
+            long delta = get(key) - checkpointed.getOrDefault(key, 0L);
+            if (delta != 0) {
+                changed.add(Map.entry(key, delta));
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Record that drained deltas were written to booking_stats
+     */
+    public void markCheckpointed(List<Map.Entry<StatKey, Long>> deltas) {
+        deltas.forEach(delta -> checkpointed.merge(delta.getKey(), delta.getValue(), Long::sum));
+    }
+    
+    /**
+     * Mark keys dirty again after a failed checkpoint
+     */
+    public void markDirty(Collection<StatKey> keys) {
+        dirty.addAll(keys);
+    }
+    
+    /**
+     * Drop checkpointed counters for days before the cutoff
+     */
+    public void evictBefore(LocalDate cutoff) {
+        counters.keySet().removeIf(key -> key.day().isBefore(cutoff) && !dirty.contains(key));
+        checkpointed.keySet().removeIf(key -> !counters.containsKey(key));
+    }
+    
+    /**
+     * Number of counters held in memory
+     */
+    public int size() {
+        return counters.size();
+    }
+}
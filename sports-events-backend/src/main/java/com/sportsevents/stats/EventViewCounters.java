@@ -0,0 +1,89 @@
+package com.sportsevents.stats;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event page views counted since the last flush, one striped LongAdder per event, so concurrent
+ * views of a popular event do not contend on one cell. At most {@code max-tracked-events} events
+ * are held between flushes; views of further events are dropped until the next flush frees room.
+ */
+@Component
+public class EventViewCounters {
+    
+    @Value("${sportsevents.event-views.max-tracked-events:50000}")
+    private int maxTrackedEvents;
+    
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * Count a view; false if the view was dropped because too many events are tracked
+     */
+    public boolean record(long eventId) {
+        LongAdder counter = pending.get(eventId);
+        if (counter == null && pending.size() < maxTrackedEvents) {
+            counter = pending.computeIfAbsent(eventId, id -> new LongAdder());
+        }
+        if (counter == null) {
+            return false;
+        }
+        counter.increment();
+        // Removed by a drain as idle meanwhile: move the view to the counter now in the map.
+        // sumThenReset takes each increment once, whether here or in the drain.
+        if (pending.get(eventId) != counter) {
+            long orphaned = counter.sumThenReset();
+            if (orphaned != 0) {
+                pending.computeIfAbsent(eventId, id -> new LongAdder()).add(orphaned);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Views counted since the last drain, zero if none
+     */
+    public long pending(long eventId) {
+        LongAdder counter = pending.get(eventId);
+        return counter != null ? counter.sum() : 0;
+    }
+    
+    /**
+     * Take the views counted since the last call, per event. Counters left idle are removed,
+     * so the map only holds events viewed during the last flush interval.
+     */
+    public List<Map.Entry<Long, Long>> drain() {
+        List<Map.Entry<Long, Long>> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                pending.remove(entry.getKey(), entry.getValue());
+                // A view that landed between the reset and the removal; later ones are moved by record
+                delta = entry.getValue().sumThenReset();
+            }
+            if (delta != 0) {
+                deltas.add(Map.entry(entry.getKey(), delta));
+            }
+        }
+        return deltas;
+    }
+    
+    /**
+     * Put back views that could not be flushed, so they go out with the next flush
+     */
+    public void restore(List<Map.Entry<Long, Long>> deltas) {
+        deltas.forEach(delta -> pending.computeIfAbsent(delta.getKey(), id -> new LongAdder()).add(delta.getValue()));
+    }
+    
+    /**
+     * Number of events with counters held in memory
+     */
+    public int size() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.sportsevents.stats;
+
+import com.sportsevents.repository.EventViewJdbcRepository;
+import com.sportsevents.service.CatalogVersionService;
+import com.sportsevents.service.EventViewService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Periodically merges the views counted since the last flush into event_views, batch-size events
+ * per transaction, and once more before shutdown. Deltas of a failed batch are put back into the
+ * counters and retried with the next flush.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "sportsevents.event-views.enabled", havingValue = "true", matchIfMissing = true)
+public class EventViewFlusher {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventViewFlusher.class);
+    
+    @Autowired
+    private EventViewCounters counters;
+    
+    @Autowired
+    private EventViewJdbcRepository eventViewJdbcRepository;
+    
+    @Autowired
+    private EventViewService eventViewService;
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.event-views.batch-size:500}")
+    private int batchSize;
+    
+    private final ReentrantLock flushLock = new ReentrantLock();
+    
+    private Timer flushTimer;
+    
+    private Counter viewsFlushed;
+    
+    @PostConstruct
+    void registerMetrics() {
+        flushTimer = Timer.builder("events.views.flush")
+                .description("Time to merge counted event views into the database")
+                .register(meterRegistry);
+        viewsFlushed = Counter.builder("events.views.flushed")
+                .description("Event views merged into the database")
+                .register(meterRegistry);
+        Gauge.builder("events.views.tracked", counters, EventViewCounters::size)
+                .description("Events with views counted since the last flush")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Merge the views counted since the last flush
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.event-views.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushTimer.record(this::write);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    /**
+     * Write out pending views before shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            write();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    private void write() {
+        List<Map.Entry<Long, Long>> deltas = counters.drain();
+        int written = 0;
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> eventViewJdbcRepository.batchAddViews(batch));
+            } catch (RuntimeException e) {
+                List<Map.Entry<Long, Long>> unwritten = deltas.subList(from, deltas.size());
+                counters.restore(unwritten);
+                log.error("Failed to flush views of {} events, will retry", unwritten.size(), e);
+                break;
+            }
+            viewsFlushed.increment(batch.stream().mapToLong(Map.Entry::getValue).sum());
+            written += batch.size();
+        }
+        if (written > 0) {
+            catalogVersionService.viewsFlushed();
+        }
+        // Stored totals also change when other nodes flush
+        eventViewService.storedViewsChanged();
+    }
+}
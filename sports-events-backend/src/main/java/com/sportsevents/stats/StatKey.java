@@ -0,0 +1,9 @@
+package com.sportsevents.stats;
+
+import java.time.LocalDate;
+
+/**
+ * One counter: a metric for a scope value on a day. The scope key is empty for ALL.
+ */
+public record StatKey(StatScope scope, String scopeKey, StatMetric metric, LocalDate day) {
+}
@@ -0,0 +1,28 @@
+package com.sportsevents.stats;
+
+import com.sportsevents.model.Booking;
+
+/**
+ * Booking transitions counted per scope and day
+ */
+public enum StatMetric {
+    BOOKINGS,
+    CANCELLATIONS,
+    PAYMENTS_COMPLETED,
+    PAYMENTS_FAILED,
+    PAYMENTS_REFUNDED,
+    PAYMENTS_PARTIALLY_REFUNDED;
+    
+    /**
+     * Metric counting transitions into a payment status, or null for PENDING
+     */
+    public static StatMetric forPaymentStatus(Booking.PaymentStatus paymentStatus) {
+        return switch (paymentStatus) {
+            case PENDING -> null;
+            case COMPLETED -> PAYMENTS_COMPLETED;
+            case FAILED -> PAYMENTS_FAILED;
+            case REFUNDED -> PAYMENTS_REFUNDED;
+            case PARTIALLY_REFUNDED -> PAYMENTS_PARTIALLY_REFUNDED;
+        };
+    }
+}
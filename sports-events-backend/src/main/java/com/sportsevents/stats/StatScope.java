@@ -0,0 +1,8 @@
+package com.sportsevents.stats;
+
+/**
+ * Dimension a booking statistic is kept for; ALL holds platform-wide totals
+ */
+public enum StatScope {
+    ALL, EVENT, CATEGORY, CITY
+}
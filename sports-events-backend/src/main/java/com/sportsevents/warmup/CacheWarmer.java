@@ -0,0 +1,150 @@
+package com.sportsevents.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preloads the method caches from the hot-key manifest before the application reports ready.
+ * Keys are replayed in parallel through the service proxies, so each call fills its cache region
+ * exactly as a request would. Health stays OUT_OF_SERVICE until the warm-up finishes or times out.
+ */
+@Component
+@ConditionalOnProperty(name = "sportsevents.cache-warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmer implements HealthIndicator {
+    
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmer.class);
+    
+    @Autowired
+    private ApplicationContext applicationContext;
+    
+    @Autowired
+    private HotKeyRecorder hotKeyRecorder;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${sportsevents.cache-warmup.parallelism:4}")
+    private int parallelism;
+    
+    @Value("${sportsevents.cache-warmup.timeout-ms:60000}")
+    private long timeoutMs;
+    
+    private final AtomicInteger warmed = new AtomicInteger();
+    
+    private final AtomicInteger failed = new AtomicInteger();
+    
+    private volatile int total = -1;
+    
+    private volatile long durationMs = -1;
+    
+    /**
+     * Replay the manifest; runs before Spring publishes readiness, so probes wait for it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void warm() {
+        List<HotKey> keys = hotKeyRecorder.load();
+        total = keys.size();
+        if (keys.isEmpty()) {
+            log.info("No hot key manifest to warm caches from");
+            durationMs = 0;
+            return;
+        }
+        
+        TransactionTemplate session = new TransactionTemplate(transactionManager);
+        session.setReadOnly(true);
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Callable<Void>> calls = keys.stream().<Callable<Void>>map(key -> () -> {
+                replay(key, session);
+                return null;
+            }).toList();
+            // Calls still running at the deadline are cancelled and the application starts with what was loaded
+            executor.invokeAll(calls, timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("cache.warmup")
+                .description("Time to preload the method caches from the hot key manifest")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        durationMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        log.info("Warmed {} of {} hot cache keys in {} ms ({} failed)", warmed.get(), total, durationMs, failed.get());
+    }
+    
+    private void replay(HotKey key, TransactionTemplate session) {
+        try {
+            Class<?> type = ClassUtils.forName(key.type(), applicationContext.getClassLoader());
+            Method method = Arrays.stream(type.getMethods())
+                    .filter(candidate -> candidate.getName().equals(key.method()))
+                    .filter(candidate -> candidate.getParameterCount() == key.args().size())
+                    .findFirst()
+                    .orElseThrow(() -> new NoSuchMethodException(key.type() + "." + key.method()));
+            Object bean = applicationContext.getBean(type);
+            Object[] args = HotKeyArguments.decode(key.args(), method.getParameterTypes(), objectMapper);
+            // Serialized inside the transaction, like a request with open-in-view, so the lazy associations
+            // the JSON reads are initialized before the cached instance is shared with later requests
+            HotKeyRecorder.replaying(() -> session.execute(status -> {
+                try {
+                    return objectMapper.writeValueAsBytes(method.invoke(bean, args));
+                } catch (IllegalAccessException | InvocationTargetException | JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            warmed.incrementAndGet();
+        } catch (Exception e) {
+            // Keys from an older build may name methods or values that no longer exist
+            failed.incrementAndGet();
+            log.debug("Could not warm cache key {}", key, e);
+        }
+    }
+    
+    @Override
+    public Health health() {
+        Health.Builder health = durationMs < 0 ? Health.outOfService() : Health.up();
+        return health
+                .withDetail("keys", Math.max(total, 0))
+                .withDetail("warmed", warmed.get())
+                .withDetail("failed", failed.get())
+                .withDetail("durationMs", Math.max(durationMs, 0))
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.sportsevents.warmup;
+
+import java.util.List;
+
+/**
+ * A cached service call: declaring class, method name and its arguments in JSON-friendly form
+ */
+public record HotKey(String type, String method, List<Object> args) {
+}
@@ -0,0 +1,81 @@
+package com.sportsevents.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts cached method arguments to and from the values stored in the hot-key manifest.
+ * Decoded arguments must produce the same cache keys as the original call, so pageables
+ * come back as the {@link PageRequest} the controllers build.
+ */
+final class HotKeyArguments {
+    
+    private HotKeyArguments() {
+    }
+    
+    /**
+     * Encode arguments, empty when one of them cannot be replayed (timestamps go stale, entities are too large)
+     */
+    static Optional<List<Object>> encode(Object[] args) {
+        List<Object> encoded = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            if (arg == null || arg instanceof String || arg instanceof Long || arg instanceof Integer
+                    || arg instanceof Boolean) {
+                encoded.add(arg);
+            } else if (arg instanceof Enum<?> value) {
+                encoded.add(value.name());
+            } else if (arg instanceof PageRequest pageable) {
+                encoded.add(encodePageable(pageable));
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(encoded);
+    }
+    
+    /**
+     * Decode arguments for the given parameter types
+     */
+    static Object[] decode(List<Object> values, Class<?>[] types, ObjectMapper objectMapper) {
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                args[i] = null;
+            } else if (Pageable.class.isAssignableFrom(types[i])) {
+                args[i] = decodePageable((Map<?, ?>) value);
+            } else {
+                args[i] = objectMapper.convertValue(value, types[i]);
+            }
+        }
+        return args;
+    }
+    
+    private static Map<String, Object> encodePageable(PageRequest pageable) {
+        Map<String, Object> encoded = new LinkedHashMap<>();
+        encoded.put("page", pageable.getPageNumber());
+        encoded.put("size", pageable.getPageSize());
+        encoded.put("sort", pageable.getSort().stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name())
+                .toList());
+        return encoded;
+    }
+    
+    private static PageRequest decodePageable(Map<?, ?> encoded) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Object order : (List<?>) encoded.get("sort")) {
+            String[] parts = order.toString().split(",", 2);
+            orders.add(new Sort.Order(Sort.Direction.fromString(parts[1]), parts[0]));
+        }
+        return PageRequest.of(((Number) encoded.get("page")).intValue(), ((Number) encoded.get("size")).intValue(),
+                Sort.by(orders));
+    }
+}
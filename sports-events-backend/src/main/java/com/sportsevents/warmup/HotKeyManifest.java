@@ -0,0 +1,13 @@
+package com.sportsevents.warmup;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The most requested cache keys at the time the manifest was written, hottest first
+ */
+public record HotKeyManifest(Instant recordedAt, List<Entry> keys) {
+    
+    public record Entry(HotKey key, long hits) {
+    }
+}
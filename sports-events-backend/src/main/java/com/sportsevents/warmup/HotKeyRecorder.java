@@ -0,0 +1,144 @@
+package com.sportsevents.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Counts calls to cached service methods and periodically writes the hottest keys to the manifest
+ * that {@link CacheWarmer} preloads on the next start. Counts are halved after every write, so keys
+ * that stop being requested fade out of the manifest.
+ */
+@Aspect
+@Component
+@Lazy(false)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "sportsevents.cache-warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyRecorder {
+    
+    private static final Logger log = LoggerFactory.getLogger(HotKeyRecorder.class);
+    
+    // Set while the warmer replays the manifest, so preloading does not count as traffic
+    private static final ThreadLocal<Boolean> REPLAYING = ThreadLocal.withInitial(() -> false);
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${sportsevents.cache-warmup.manifest:cache/hot-keys.json}")
+    private Path manifest;
+    
+    @Value("${sportsevents.cache-warmup.manifest-size:500}")
+    private int manifestSize;
+    
+    @Value("${sportsevents.cache-warmup.max-tracked-keys:10000}")
+    private int maxTrackedKeys;
+    
+    private final Map<HotKey, AtomicLong> hits = new ConcurrentHashMap<>();
+    
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable) && within(com.sportsevents.service..*)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!REPLAYING.get()) {
+            HotKeyArguments.encode(joinPoint.getArgs()).ifPresent(args -> {
+                MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+                HotKey key = new HotKey(signature.getDeclaringTypeName(), signature.getName(), args);
+                AtomicLong count = hits.get(key);
+                if (count == null && hits.size() < maxTrackedKeys) {
+                    count = hits.computeIfAbsent(key, k -> new AtomicLong());
+                }
+                if (count != null) {
+                    count.incrementAndGet();
+                }
+            });
+        }
+        return joinPoint.proceed();
+    }
+    
+    /**
+     * Run a replayed call without counting it
+     */
+    static <T> T replaying(Supplier<T> call) {
+        REPLAYING.set(true);
+        try {
+            return call.get();
+        } finally {
+            REPLAYING.remove();
+        }
+    }
+    
+    /**
+     * Write the hottest keys to the manifest and decay all counts
+     */
+    @Scheduled(fixedDelayString = "${sportsevents.cache-warmup.save-interval-ms:300000}",
+            initialDelayString = "${sportsevents.cache-warmup.save-interval-ms:300000}")
+    public synchronized void save() {
+        List<HotKeyManifest.Entry> hottest = hits.entrySet().stream()
+                .map(entry -> new HotKeyManifest.Entry(entry.getKey(), entry.getValue().get()))
+                .filter(entry -> entry.hits() > 0)
+                .sorted(Comparator.comparingLong(HotKeyManifest.Entry::hits).reversed())
+                .limit(manifestSize)
+                .toList();
+        // Keep the previous manifest rather than replacing it with nothing after a quiet period
+        if (hottest.isEmpty()) {
+            return;
+        }
+        try {
+            if (manifest.getParent() != null) {
+                Files.createDirectories(manifest.getParent());
+            }
+            Path temp = manifest.resolveSibling(manifest.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), new HotKeyManifest(Instant.now(), hottest));
+            Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote {} hot cache keys to {}", hottest.size(), manifest);
+        } catch (IOException e) {
+            log.warn("Failed to write hot key manifest {}", manifest, e);
+        }
+        hits.values().removeIf(count -> count.updateAndGet(value -> value / 2) == 0);
+    }
+    
+    /**
+     * Read the manifest written by a previous run, empty when there is none or it cannot be read
+     */
+    public List<HotKey> load() {
+        if (!Files.isRegularFile(manifest)) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(manifest.toFile(), HotKeyManifest.class).keys().stream()
+                    .map(HotKeyManifest.Entry::key)
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable hot key manifest {}", manifest, e);
+            return List.of();
+        }
+    }
+    
+    @PreDestroy
+    public void saveOnShutdown() {
+        save();
+    }
+}
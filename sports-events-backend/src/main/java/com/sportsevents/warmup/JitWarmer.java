@@ -0,0 +1,333 @@
+package com.sportsevents.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsevents.index.Facet;
+import com.sportsevents.index.FacetFilter;
+import com.sportsevents.model.Event;
+import com.sportsevents.service.BookingService;
+import com.sportsevents.service.CategoryService;
+import com.sportsevents.service.EventService;
+import com.sportsevents.service.VenueService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Runs a call mix through the services until the hot paths have been compiled, before the
+ * application reports ready. Each read runs in a read-only transaction and its result is serialized
+ * there, so the services, repositories, Hibernate and Jackson all see the traffic; bookings are
+ * created through {@link BookingService} in a transaction that is always rolled back.
+ * The mix is replayed in rounds until every call has been made {@code min-calls} times.
+ */
+@Component
+@ConditionalOnWebApplication
+@ConditionalOnProperty(name = "sportsevents.jit-warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class JitWarmer implements HealthIndicator {
+    
+    private static final Logger log = LoggerFactory.getLogger(JitWarmer.class);
+    
+    // Cache regions filled with one-off keys by the varied page sizes of the mix
+    private static final List<String> WARMED_CACHES = List.of("events", "venues", "categories");
+    
+    // Names the rolled-back booking transaction, so BookingService does not count its attempts
+    public static final String WARMUP_TRANSACTION = "jit-warmup";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private CategoryService categoryService;
+    
+    @Autowired
+    private VenueService venueService;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${sportsevents.jit-warmup.min-calls:300}")
+    private int minCalls;
+    
+    @Value("${sportsevents.jit-warmup.max-duration-ms:60000}")
+    private long maxDurationMs;
+    
+    @Value("${sportsevents.jit-warmup.parallelism:2}")
+    private int parallelism;
+    
+    @Value("${sportsevents.jit-warmup.sample-events:20}")
+    private int sampleEvents;
+    
+    private final AtomicLong requests = new AtomicLong();
+    
+    private final AtomicLong firstRoundNanos = new AtomicLong();
+    
+    private final AtomicLong lastRoundNanos = new AtomicLong();
+    
+    private volatile int mixSize;
+    
+    private volatile long compilationMs = -1;
+    
+    private volatile long durationMs = -1;
+    
+    /**
+     * Replay the mix; runs after the catalogue loaders and before the cache warm-up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void warm() {
+        List<IntFunction<Object>> mix = mix();
+        Runnable booking = bookingWarmup();
+        mixSize = mix.size() + (booking != null ? 1 : 0);
+        
+        TransactionTemplate session = new TransactionTemplate(transactionManager);
+        session.setReadOnly(true);
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        long compilationStart = compilation != null ? compilation.getTotalCompilationTime() : 0;
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int worker = 0; worker < parallelism; worker++) {
+                int first = worker;
+                workers.add(() -> {
+                    for (int round = first; round < minCalls && System.nanoTime() < deadline; round += parallelism) {
+                        long roundStart = System.nanoTime();
+                        for (IntFunction<Object> call : mix) {
+                            call(session, call, round);
+                        }
+                        if (booking != null) {
+                            booking.run();
+                        }
+                        long roundNanos = System.nanoTime() - roundStart;
+                        if (round == 0) {
+                            firstRoundNanos.set(roundNanos);
+                        }
+                        lastRoundNanos.set(roundNanos);
+                    }
+                    return null;
+                });
+            }
+            executor.invokeAll(workers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        long elapsed = System.nanoTime() - start;
+        durationMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        compilationMs = compilation != null ? compilation.getTotalCompilationTime() - compilationStart : 0;
+        // Drop the one-off entries; the cache warm-up refills the keys real traffic asks for
+        WARMED_CACHES.stream().map(cacheManager::getCache).filter(Objects::nonNull).forEach(Cache::clear);
+        registerMetrics(elapsed);
+        log.info("JIT warm-up made {} calls over a mix of {} in {} ms, round time {} ms -> {} ms, {} ms compiling",
+                requests.get(), mixSize, durationMs, TimeUnit.NANOSECONDS.toMillis(firstRoundNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(lastRoundNanos.get()), compilationMs);
+    }
+    
+    private void call(TransactionTemplate session, IntFunction<Object> call, int round) {
+        try {
+            session.executeWithoutResult(status -> {
+                try {
+                    objectMapper.writeValueAsBytes(call.apply(round));
+                } catch (IOException e) {
+                    log.debug("JIT warm-up serialization failed", e);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug("JIT warm-up call failed", e);
+        }
+        requests.incrementAndGet();
+    }
+    
+    /**
+     * Catalogue reads over a sample of active events; page sizes vary per round so calls miss the
+     * method caches and reach the repositories
+     */
+    private List<IntFunction<Object>> mix() {
+        List<Map<String, Object>> events = jdbcTemplate.queryForList(
+                "SELECT e.id, e.title, e.category_id, e.event_type, v.city, v.latitude, v.longitude "
+                        + "FROM events e JOIN venues v ON v.id = e.venue_id WHERE e.status = 'ACTIVE' "
+                        + "ORDER BY e.event_date LIMIT ?", sampleEvents);
+        List<Long> users = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id LIMIT ?", Long.class, sampleEvents);
+        List<IntFunction<Object>> mix = new ArrayList<>();
+        mix.add(round -> categoryService.getAllCategories());
+        mix.add(round -> venueService.getAllCities());
+        mix.add(round -> eventService.getActiveEventsWithOpenRegistration(page(round)));
+        mix.add(round -> eventService.getEventsWithAvailableSlots(page(round)));
+        mix.add(round -> eventService.getFacetCounts(new FacetFilter()));
+        mix.add(round -> bookingService.getRecentBookings(LocalDateTime.now().minusDays(7),
+                PageRequest.of(0, size(round), Sort.by("bookingDate").descending())));
+        if (!events.isEmpty()) {
+            IntFunction<Map<String, Object>> event = round -> events.get(round % events.size());
+            mix.add(round -> eventService.getEventById(id(event.apply(round))).orElse(null));
+            mix.add(round -> eventService.hasAvailableSlots(id(event.apply(round))));
+            mix.add(round -> eventService.isRegistrationOpen(id(event.apply(round))));
+            mix.add(round -> bookingService.getConfirmedBookingsCount(id(event.apply(round))));
+            mix.add(round -> eventService.getEventsByCategory(id(event.apply(round), "category_id"), page(round)));
+            mix.add(round -> eventService.getEventsByCity(String.valueOf(event.apply(round).get("city")), page(round)));
+            mix.add(round -> eventService.getEventsByType(
+                    Event.EventType.valueOf(String.valueOf(event.apply(round).get("event_type"))), page(round)));
+            mix.add(round -> eventService.searchEvents(firstWord(event.apply(round).get("title")), page(round)));
+            mix.add(round -> eventService.filterEvents(
+                    new FacetFilter().with(Facet.CITY, List.of(String.valueOf(event.apply(round).get("city")))),
+                    page(round)));
+            mix.add(round -> eventService.getEventsNearby(((Number) event.apply(round).get("latitude")).doubleValue(),
+                    ((Number) event.apply(round).get("longitude")).doubleValue(), 10, 50));
+        }
+        if (!users.isEmpty()) {
+            mix.add(round -> bookingService.getBookingsByUser(users.get(round % users.size()),
+                    PageRequest.of(0, size(round), Sort.by("bookingDate").descending())));
+        }
+        return mix;
+    }
+    
+    /**
+     * A booking that passes every check, created and rolled back once per round; null when the
+     * database has no user and open event without a booking between them
+     */
+    private Runnable bookingWarmup() {
+        List<Map<String, Object>> candidates = jdbcTemplate.queryForList(
+                "SELECT u.id AS user_id, e.id AS event_id FROM users u CROSS JOIN events e "
+                        + "WHERE e.status = 'ACTIVE' AND e.registration_start_date <= LOCALTIMESTAMP "
+                        + "AND e.registration_end_date >= LOCALTIMESTAMP "
+                        + "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.user_id = u.id AND b.event_id = e.id) "
+                        + "LIMIT 1");
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Long userId = id(candidates.get(0), "user_id");
+        Long eventId = id(candidates.get(0), "event_id");
+        TransactionTemplate rollback = new TransactionTemplate(transactionManager);
+        rollback.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        rollback.setName(WARMUP_TRANSACTION);
+        return () -> {
+            try {
+                rollback.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    try {
+                        objectMapper.writeValueAsBytes(bookingService.createBooking(userId, eventId, "warm-up", null));
+                    } catch (IOException e) {
+                        log.debug("JIT warm-up booking serialization failed", e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.debug("JIT warm-up booking failed", e);
+            }
+            requests.incrementAndGet();
+        };
+    }
+    
+    private void registerMetrics(long elapsedNanos) {
+        Timer.builder("jit.warmup")
+                .description("Time spent replaying the JIT warm-up request mix")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Gauge.builder("jit.warmup.requests", requests, AtomicLong::get)
+                .description("Calls issued during the JIT warm-up")
+                .register(meterRegistry);
+        Gauge.builder("jit.warmup.round.time", firstRoundNanos, JitWarmer::roundMillis)
+                .description("Time to issue one round of the warm-up mix")
+                .tag("round", "first")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("jit.warmup.round.time", lastRoundNanos, JitWarmer::roundMillis)
+                .description("Time to issue one round of the warm-up mix")
+                .tag("round", "last")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("jit.warmup.compilation.time", this, warmer -> warmer.compilationMs)
+                .description("JIT compilation time accumulated during the warm-up")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+    
+    private static int size(int round) {
+        return 1 + round % 20;
+    }
+    
+    private static PageRequest page(int round) {
+        return PageRequest.of(0, size(round), Sort.by("eventDate").ascending());
+    }
+    
+    private static Long id(Map<String, Object> row) {
+        return id(row, "id");
+    }
+    
+    private static Long id(Map<String, Object> row, String column) {
+        return ((Number) row.get(column)).longValue();
+    }
+    
+    private static String firstWord(Object title) {
+        return String.valueOf(title).split("\\s+", 2)[0];
+    }
+    
+    private static double roundMillis(AtomicLong nanos) {
+        return nanos.get() / 1_000_000.0;
+    }
+    
+    @Override
+    public Health health() {
+        Health.Builder health = durationMs < 0 ? Health.outOfService() : Health.up();
+        return health
+                .withDetail("requests", requests.get())
+                .withDetail("mix", mixSize)
+                .withDetail("durationMs", Math.max(durationMs, 0))
+                .withDetail("firstRoundMs", TimeUnit.NANOSECONDS.toMillis(firstRoundNanos.get()))
+                .withDetail("lastRoundMs", TimeUnit.NANOSECONDS.toMillis(lastRoundNanos.get()))
+                .withDetail("compilationMs", Math.max(compilationMs, 0))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportsevents.web;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Final bytes of a GET response with the headers needed to replay it.
+ * {@code gzipBody} is null when the body was below the compression threshold.
+ * A class rather than a record, as the responses region is sized by bytes and ehcache cannot
+ * measure record fields.
+ */
+public final class CachedResponse {
+    
+    private final Map<String, List<String>> headers;
+    
+    private final byte[] body;
+    
+    private final byte[] gzipBody;
+    
+    public CachedResponse(Map<String, List<String>> headers, byte[] body, byte[] gzipBody) {
+        this.headers = headers;
+        this.body = body;
+        this.gzipBody = gzipBody;
+    }
+    
+    public Map<String, List<String>> headers() { return headers; }
+    
+    public byte[] body() { return body; }
+    
+    public byte[] gzipBody() { return gzipBody; }
+}
@@ -0,0 +1,72 @@
+package com.sportsevents.web;
+
+import com.sportsevents.dto.EventResponse;
+import com.sportsevents.model.Event;
+import com.sportsevents.service.EventViewService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes events returned by the API, alone, in a page or in a list, as {@link EventResponse}s
+ * carrying their view count. The events themselves are left untouched, as they may be shared
+ * through the events cache. Runs before Jackson writes the body, so responses stored by
+ * {@link ResponseCacheFilter} carry the count current when they were rendered.
+ */
+@RestControllerAdvice
+public class EventViewCountAdvice implements ResponseBodyAdvice<Object> {
+    
+    @Autowired
+    private EventViewService eventViewService;
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof Event event) {
+            return withViewCount(event, viewCounts(List.of(event)));
+        }
+        if (body instanceof Page<?> page && containsEvents(page.getContent())) {
+            Map<Long, Long> counts = viewCounts(page.getContent());
+            return page.map(element -> element instanceof Event event ? withViewCount(event, counts) : element);
+        }
+        if (body instanceof List<?> list && containsEvents(list)) {
+            Map<Long, Long> counts = viewCounts(list);
+            return list.stream()
+                    .map(element -> element instanceof Event event ? withViewCount(event, counts) : element)
+                    .toList();
+        }
+        return body;
+    }
+    
+    private Map<Long, Long> viewCounts(Collection<?> elements) {
+        return eventViewService.getViewCounts(elements.stream()
+                .filter(Event.class::isInstance)
+                .map(element -> ((Event) element).getId())
+                .toList());
+    }
+    
+    private static EventResponse withViewCount(Event event, Map<Long, Long> counts) {
+        return new EventResponse(event, event.getId() != null ? counts.getOrDefault(event.getId(), 0L) : 0);
+    }
+    
+    private static boolean containsEvents(Collection<?> elements) {
+        return elements.stream().anyMatch(Event.class::isInstance);
+    }
+}
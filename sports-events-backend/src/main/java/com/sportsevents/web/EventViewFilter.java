@@ -0,0 +1,55 @@
+package com.sportsevents.web;
+
+import com.sportsevents.service.EventViewService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+
+/**
+ * Counts views of event pages. Runs outside {@link ResponseCacheFilter}, so views answered from the
+ * response cache or with 304 are counted too.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "sportsevents.event-views.enabled", havingValue = "true", matchIfMissing = true)
+public class EventViewFilter extends OncePerRequestFilter {
+    
+    private static final PathPattern EVENT_PAGE = PathPatternParser.defaultInstance.parse("/api/events/{id:\\d+}");
+    
+    @Autowired
+    private EventViewService eventViewService;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        
+        chain.doFilter(request, response);
+        
+        int status = response.getStatus();
+        if (status != HttpServletResponse.SC_OK && status != HttpServletResponse.SC_NOT_MODIFIED) {
+            return;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        PathPattern.PathMatchInfo match = EVENT_PAGE.matchAndExtract(path);
+        if (match != null) {
+            eventViewService.recordView(Long.parseLong(match.getUriVariables().get("id")));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.sportsevents.web;
+
+import com.sportsevents.service.CatalogVersionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response-level cache for hot catalogue GETs.
+ * Stores the final JSON bytes and a pre-gzipped copy, and replays them on a hit without
+ * running the controller, Jackson or the on-the-fly compressor. Keys include the current
+ * catalogue version tag, so the writes that evict the service caches also retire entries.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    
+    private static final String CACHE_NAME = "responses";
+    
+    // Headers set by the controllers; CORS headers are added by the security filter chain on every request
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL);
+    
+    private static final Set<String> PAGE = Set.of("page", "size");
+    
+    private static final Set<String> FACETS = Set.of("categoryId", "city", "eventType", "difficulty", "priceBand", "month");
+    
+    private record Route(PathPattern pattern, Set<String> params, Function<PathPattern.PathMatchInfo, String> tag) {}
+    
+    private record Match(Route route, String tag) {}
+    
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Value("${sportsevents.response-cache.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${sportsevents.response-cache.max-body-bytes:262144}")
+    private int maxBodyBytes;
+    
+    @Value("${server.compression.enabled:false}")
+    private boolean compressionEnabled;
+    
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize compressionMinSize;
+    
+    private final List<Route> routes = new ArrayList<>();
+    
+    public ResponseCacheFilter() {
+        route("/api/events", Set.of("page", "size", "sortBy", "sortDir"), match -> catalogVersionService.eventListingTag());
+        route("/api/events/{id:\\d+}", Set.of(), match -> catalogVersionService.eventTag(Long.parseLong(match.getUriVariables().get("id"))));
+        route("/api/events/category/{categoryId}", PAGE, match -> catalogVersionService.eventListingTag());
+        route("/api/events/city/{city}", PAGE, match -> catalogVersionService.eventListingTag());
+        route("/api/events/type/{eventType}", PAGE, match -> catalogVersionService.eventListingTag());
+        route("/api/events/search", Set.of("q", "page", "size"), match -> catalogVersionService.eventListingTag());
+        route("/api/events/filter", Set.of("categoryId", "city", "eventType", "difficulty", "priceBand", "month", "page", "size"), match -> catalogVersionService.eventListingTag());
+        route("/api/events/facets", FACETS, match -> catalogVersionService.eventListingTag());
+        route("/api/events/available", PAGE, match -> catalogVersionService.eventListingTag());
+        route("/api/events/popular", PAGE, match -> catalogVersionService.popularTag());
+        route("/api/categories", Set.of(), match -> catalogVersionService.categoriesTag());
+        route("/api/venues/cities", Set.of(), match -> catalogVersionService.venuesTag());
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        
+        Match match = match(request);
+        if (match == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        String key = cacheKey(request, match);
+        CachedResponse cached = cache.get(key, CachedResponse.class);
+        if (cached != null) {
+            replay(cached, request, response);
+            return;
+        }
+        
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        
+        if (!isCacheable(wrapper)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        
+        // Headers already went through to the response, only the buffered body is left to write
+        CachedResponse captured = capture(wrapper);
+        cache.put(key, captured);
+        writeBody(captured, request, response);
+    }
+    
+    private void route(String pattern, Set<String> params, Function<PathPattern.PathMatchInfo, String> tag) {
+        routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), params, tag));
+    }
+    
+    private Match match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Route route : routes) {
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match != null) {
+                return new Match(route, route.tag().apply(match));
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Tag, path and the route's query parameters in name order. The controllers ignore other
+     * parameters, so they are left out and cannot fill the cache with copies of one response.
+     */
+    private String cacheKey(HttpServletRequest request, Match match) {
+        StringBuilder key = new StringBuilder(match.tag()).append(' ').append(request.getRequestURI()).append('?');
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            if (!match.route().params().contains(name)) {
+                return;
+            }
+            for (String value : values) {
+                key.append(encode(name)).append('=').append(encode(value)).append('&');
+            }
+        });
+        return key.toString();
+    }
+    
+    private boolean isCacheable(ContentCachingResponseWrapper response) {
+        if (response.getStatus() != HttpServletResponse.SC_OK || response.getContentSize() > maxBodyBytes
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null || response.getContentType() == null) {
+            return false;
+        }
+        return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType()));
+    }
+    
+    private CachedResponse capture(ContentCachingResponseWrapper response) throws IOException {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+        for (String name : REPLAYED_HEADERS) {
+            List<String> values = List.copyOf(response.getHeaders(name));
+            if (!values.isEmpty()) {
+                headers.put(name, values);
+            }
+        }
+        
+        byte[] body = response.getContentAsByteArray();
+        byte[] gzipBody = null;
+        if (compressionEnabled && body.length >= compressionMinSize.toBytes()) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(body);
+            }
+            gzipBody = buffer.toByteArray();
+        }
+        return new CachedResponse(headers, body, gzipBody);
+    }
+    
+    private void replay(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = null;
+        for (Map.Entry<String, List<String>> header : cached.headers().entrySet()) {
+            if (header.getKey().equals(HttpHeaders.ETAG)) {
+                etag = header.getValue().get(0);
+            } else {
+                header.getValue().forEach(value -> response.addHeader(header.getKey(), value));
+            }
+        }
+        // Sets the ETag header, and answers 304 when the request already holds this representation
+        if (etag == null || !new ServletWebRequest(request, response).checkNotModified(etag)) {
+            writeBody(cached, request, response);
+        }
+    }
+    
+    private void writeBody(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] body = cached.body();
+        if (cached.gzipBody() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                // An existing Content-Encoding keeps the connector from compressing again
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = cached.gzipBody();
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+    
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,11 @@
+-- Bookings carry their event's date, the partition key of the PostgreSQL bookings table
+
+alter table bookings add column event_date timestamp(6);
+
+update bookings b set event_date = (select e.event_date from events e where e.id = b.event_id);
+
+alter table bookings alter column event_date set not null;
+
+create index idx_bookings_event_date on bookings (event_date);
+
+create index idx_bookings_user_event_date on bookings (user_id, event_date);
@@ -0,0 +1,46 @@
+-- Cold tables for events past the archive horizon and their bookings, filled by EventArchiveService
+
+create table events_archive (
+    id bigint not null,
+    title varchar(200) not null,
+    description varchar(1000),
+    event_date timestamp(6) not null,
+    registration_start_date timestamp(6) not null,
+    registration_end_date timestamp(6) not null,
+    max_participants integer,
+    price numeric(10,2),
+    image_url varchar(255),
+    banner_url varchar(255),
+    event_type enum ('ATHLETICS','BADMINTON','BASKETBALL','CRICKET','CYCLING','FOOTBALL','MARATHON','OTHER','RUNNING','SWIMMING','TABLE_TENNIS','TENNIS','TRIATHLON','VOLLEYBALL') not null,
+    difficulty_level enum ('ADVANCED','BEGINNER','EXPERT','INTERMEDIATE'),
+    status enum ('ACTIVE','CANCELLED','COMPLETED','INACTIVE') not null,
+    rules varchar(2000),
+    prize_info varchar(1000),
+    contact_info varchar(500),
+    category_id bigint not null,
+    venue_id bigint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table bookings_archive (
+    id bigint not null,
+    user_id bigint not null,
+    event_id bigint not null,
+    event_date timestamp(6) not null,
+    booking_date timestamp(6) not null,
+    booking_status enum ('ATTENDED','CANCELLED','CONFIRMED','NO_SHOW') not null,
+    payment_status enum ('COMPLETED','FAILED','PARTIALLY_REFUNDED','PENDING','REFUNDED') not null,
+    payment_reference varchar(255),
+    total_amount numeric(10,2),
+    notes varchar(500),
+    emergency_contact varchar(100),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_bookings_archive_user on bookings_archive (user_id, booking_date);
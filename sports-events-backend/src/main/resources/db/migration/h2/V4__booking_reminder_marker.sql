@@ -0,0 +1,3 @@
+-- Set when the booking's event reminder has been claimed for sending by ReminderDispatcher
+
+alter table bookings add column reminder_sent_at timestamp(6);
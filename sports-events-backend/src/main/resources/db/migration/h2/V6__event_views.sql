@@ -0,0 +1,10 @@
+-- View counts per event, merged in from the in-memory counters by EventViewFlusher
+
+create table event_views (
+    event_id bigint not null,
+    views bigint not null,
+    updated_at timestamp(6) not null,
+    primary key (event_id)
+);
+
+create index idx_event_views_views on event_views (views);
@@ -0,0 +1,3 @@
+-- Serves the recent bookings query, which is bounded on booking_date only
+
+create index idx_bookings_booking_date on bookings (booking_date);
@@ -0,0 +1,120 @@
+-- PostgreSQL baseline schema matching the JPA model, the same as the H2 baseline;
+-- later changes go into new versioned scripts
+
+create table categories (
+    id bigint generated by default as identity,
+    name varchar(100) not null unique,
+    description varchar(500),
+    icon_url varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table venues (
+    id bigint generated by default as identity,
+    name varchar(200) not null,
+    address varchar(500) not null,
+    city varchar(100) not null,
+    state varchar(100),
+    postalCode varchar(20),
+    country varchar(100),
+    latitude float(53),
+    longitude float(53),
+    capacity integer,
+    image_url varchar(255),
+    description varchar(1000),
+    amenities varchar(1000),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    email varchar(100) not null unique,
+    phone_number varchar(15),
+    date_of_birth varchar(10),
+    gender varchar(30) check (gender in ('FEMALE','MALE','OTHER','PREFER_NOT_TO_SAY')),
+    address varchar(200),
+    city varchar(100),
+    state varchar(100),
+    postal_code varchar(20),
+    profile_image_url varchar(255),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id)
+);
+
+create table events (
+    id bigint generated by default as identity,
+    title varchar(200) not null,
+    description varchar(1000),
+    event_date timestamp(6) not null,
+    registration_start_date timestamp(6) not null,
+    registration_end_date timestamp(6) not null,
+    max_participants integer check (max_participants>=1),
+    price numeric(10,2) check (price>=0),
+    image_url varchar(255),
+    banner_url varchar(255),
+    event_type varchar(30) not null check (event_type in ('ATHLETICS','BADMINTON','BASKETBALL','CRICKET','CYCLING','FOOTBALL','MARATHON','OTHER','RUNNING','SWIMMING','TABLE_TENNIS','TENNIS','TRIATHLON','VOLLEYBALL')),
+    difficulty_level varchar(30) check (difficulty_level in ('ADVANCED','BEGINNER','EXPERT','INTERMEDIATE')),
+    status varchar(30) not null check (status in ('ACTIVE','CANCELLED','COMPLETED','INACTIVE')),
+    rules varchar(2000),
+    prize_info varchar(1000),
+    contact_info varchar(500),
+    category_id bigint not null,
+    venue_id bigint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_events_category foreign key (category_id) references categories,
+    constraint fk_events_venue foreign key (venue_id) references venues
+);
+
+create table bookings (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    event_id bigint not null,
+    booking_date timestamp(6) not null,
+    booking_status varchar(30) not null check (booking_status in ('ATTENDED','CANCELLED','CONFIRMED','NO_SHOW')),
+    payment_status varchar(30) not null check (payment_status in ('COMPLETED','FAILED','PARTIALLY_REFUNDED','PENDING','REFUNDED')),
+    payment_reference varchar(255),
+    total_amount numeric(10,2),
+    notes varchar(500),
+    emergency_contact varchar(100),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id),
+    constraint fk_bookings_user foreign key (user_id) references users,
+    constraint fk_bookings_event foreign key (event_id) references events
+);
+
+create table outbox_events (
+    id bigint generated by default as identity,
+    aggregate_type varchar(50) not null,
+    aggregate_id bigint not null,
+    event_type varchar(30) not null check (event_type in ('BOOKING_CANCELLED','BOOKING_CREATED','BOOKING_STATUS_CHANGED','PAYMENT_STATUS_CHANGED')),
+    payload varchar(4000) not null,
+    created_at timestamp(6) not null,
+    published_at timestamp(6),
+    primary key (id)
+);
+
+create index idx_outbox_unpublished on outbox_events (published_at, id);
+
+create table booking_stats (
+    id bigint generated by default as identity,
+    scope varchar(20) not null,
+    scope_key varchar(100) not null,
+    metric varchar(50) not null,
+    stat_day date not null,
+    stat_value bigint not null,
+    updated_at timestamp(6) not null,
+    primary key (id),
+    constraint uk_booking_stats_key unique (scope, scope_key, metric, stat_day)
+);
+
+create index idx_booking_stats_day on booking_stats (stat_day);
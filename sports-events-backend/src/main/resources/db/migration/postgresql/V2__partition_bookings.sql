@@ -0,0 +1,53 @@
+-- Range-partition bookings by month of their event's date. Queries bounded on event_date
+-- only read the partitions of their window, however much history the table holds.
+-- Monthly partitions are created by BookingPartitionService; rows outside them wait in
+-- bookings_default until their month's partition is split out of it.
+
+alter table bookings rename to bookings_unpartitioned;
+
+alter table bookings_unpartitioned rename constraint fk_bookings_user to fk_bookings_unpartitioned_user;
+
+alter table bookings_unpartitioned rename constraint fk_bookings_event to fk_bookings_unpartitioned_event;
+
+create sequence bookings_id_seq;
+
+-- The partition key has to be part of the primary key; ids stay unique through the sequence
+create table bookings (
+    id bigint not null default nextval('bookings_id_seq'),
+    user_id bigint not null,
+    event_id bigint not null,
+    event_date timestamp(6) not null,
+    booking_date timestamp(6) not null,
+    booking_status varchar(30) not null check (booking_status in ('ATTENDED','CANCELLED','CONFIRMED','NO_SHOW')),
+    payment_status varchar(30) not null check (payment_status in ('COMPLETED','FAILED','PARTIALLY_REFUNDED','PENDING','REFUNDED')),
+    payment_reference varchar(255),
+    total_amount numeric(10,2),
+    notes varchar(500),
+    emergency_contact varchar(100),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    primary key (id, event_date),
+    constraint fk_bookings_user foreign key (user_id) references users,
+    constraint fk_bookings_event foreign key (event_id) references events
+) partition by range (event_date);
+
+alter sequence bookings_id_seq owned by bookings.id;
+
+create table bookings_default partition of bookings default;
+
+create index idx_bookings_event_date on bookings (event_date);
+
+create index idx_bookings_user_event_date on bookings (user_id, event_date);
+
+create index idx_bookings_event on bookings (event_id);
+
+insert into bookings (id, user_id, event_id, event_date, booking_date, booking_status, payment_status,
+                      payment_reference, total_amount, notes, emergency_contact, created_at, updated_at)
+select b.id, b.user_id, b.event_id, e.event_date, b.booking_date, b.booking_status, b.payment_status,
+       b.payment_reference, b.total_amount, b.notes, b.emergency_contact, b.created_at, b.updated_at
+from bookings_unpartitioned b
+join events e on e.id = b.event_id;
+
+select setval('bookings_id_seq', coalesce((select max(id) from bookings), 0) + 1, false);
+
+drop table bookings_unpartitioned;
@@ -0,0 +1,47 @@
+-- Cold tables for events past the archive horizon and their bookings, filled by EventArchiveService.
+-- They are not partitioned: only user history pages read them, through the user index.
+
+create table events_archive (
+    id bigint not null,
+    title varchar(200) not null,
+    description varchar(1000),
+    event_date timestamp(6) not null,
+    registration_start_date timestamp(6) not null,
+    registration_end_date timestamp(6) not null,
+    max_participants integer,
+    price numeric(10,2),
+    image_url varchar(255),
+    banner_url varchar(255),
+    event_type varchar(30) not null check (event_type in ('ATHLETICS','BADMINTON','BASKETBALL','CRICKET','CYCLING','FOOTBALL','MARATHON','OTHER','RUNNING','SWIMMING','TABLE_TENNIS','TENNIS','TRIATHLON','VOLLEYBALL')),
+    difficulty_level varchar(30) check (difficulty_level in ('ADVANCED','BEGINNER','EXPERT','INTERMEDIATE')),
+    status varchar(30) not null check (status in ('ACTIVE','CANCELLED','COMPLETED','INACTIVE')),
+    rules varchar(2000),
+    prize_info varchar(1000),
+    contact_info varchar(500),
+    category_id bigint not null,
+    venue_id bigint not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table bookings_archive (
+    id bigint not null,
+    user_id bigint not null,
+    event_id bigint not null,
+    event_date timestamp(6) not null,
+    booking_date timestamp(6) not null,
+    booking_status varchar(30) not null check (booking_status in ('ATTENDED','CANCELLED','CONFIRMED','NO_SHOW')),
+    payment_status varchar(30) not null check (payment_status in ('COMPLETED','FAILED','PARTIALLY_REFUNDED','PENDING','REFUNDED')),
+    payment_reference varchar(255),
+    total_amount numeric(10,2),
+    notes varchar(500),
+    emergency_contact varchar(100),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    archived_at timestamp(6) not null,
+    primary key (id)
+);
+
+create index idx_bookings_archive_user on bookings_archive (user_id, booking_date);
@@ -0,0 +1,6 @@
+-- Set when the booking's event reminder has been claimed for sending by ReminderDispatcher
+
+alter table bookings add column reminder_sent_at timestamp(6);
+
+-- Keeps the dispatcher's scan of the lead window to bookings still waiting for their reminder
+create index idx_bookings_reminder_due on bookings (event_date, id) where reminder_sent_at is null;
@@ -0,0 +1,3 @@
+-- Serves the ACTIVE-filtered catalogue queries and EventLifecycleService's scans for expired events
+
+create index idx_events_status_date on events (status, event_date);
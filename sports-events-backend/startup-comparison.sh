@@ -0,0 +1,113 @@
+#!/bin/bash
+
+# Startup time and memory comparison between the plain JVM jar, the AOT-processed jar
+# with an AppCDS archive, and the native executable. Build what you want compared:
+#   mvn -B package -DskipTests                              (jvm)
+#   mvn -B -Paot package -DskipTests, extract and train     (jvm-cds, see Dockerfile)
+#   mvn -B -Pnative -DskipTests native:compile              (native)
+# Each build is started RUNS times; the script reports time until /actuator/health
+# answers, time until the first event listing is served, the "Started ... in" time
+# Spring logs, and resident memory once ready and after a short burst of requests.
+
+set -e
+
+JAR=${JAR:-target/sports-events-backend-1.0.0-exec.jar}
+NATIVE=${NATIVE:-target/sports-events-backend}
+# Directory holding application/ (extracted with -Djarmode=tools) and application.jsa
+CDS_DIR=${CDS_DIR:-}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+CREDENTIALS=${CREDENTIALS:-admin:admin123}
+JAVA=${JAVA:-java}
+
+# Colors for output
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+print_status() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+print_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+# Start one build, wait for health, measure, stop; prints "ready_ms first_ms started_s rss_ready rss_loaded"
+measure() {
+    local log
+    log=$(mktemp)
+    local start
+    start=$(now_ms)
+    "$@" --server.port="$PORT" --sportsevents.outbox.sink=memory > "$log" 2>&1 &
+    local pid=$!
+
+    until curl -sf -u "$CREDENTIALS" "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            print_error "Process exited before becoming healthy, see $log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local ready=$(( $(now_ms) - start ))
+    curl -sf -o /dev/null -u "$CREDENTIALS" "http://localhost:$PORT/api/events?size=12"
+    local first=$(( $(now_ms) - start ))
+    local rss_ready
+    rss_ready=$(rss_mb "$pid")
+
+    for _ in $(seq 1 200); do
+        curl -s -o /dev/null -u "$CREDENTIALS" "http://localhost:$PORT/api/events?size=12"
+        curl -s -o /dev/null -u "$CREDENTIALS" "http://localhost:$PORT/api/events/1"
+    done
+    local rss_loaded
+    rss_loaded=$(rss_mb "$pid")
+
+    local started
+    started=$(grep -o "Started SportsEventsApplication in [0-9.]*" "$log" | awk '{print $4}')
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    rm -f "$log"
+    echo "$ready $first $started $rss_ready $rss_loaded"
+}
+
+# Average each column over RUNS starts
+report() {
+    local name=$1
+    shift
+    local results=""
+    for run in $(seq 1 "$RUNS"); do
+        print_status "$name run $run/$RUNS" >&2
+        results+="$(measure "$@")"$'\n'
+    done
+    echo -n "$results" | awk -v name="$name" '
+        { ready += $1; first += $2; started += $3; rss += $4; loaded += $5; n++ }
+        END { printf "%-8s %12.0f %16.0f %12.3f %14.0f %15.0f\n", name, ready / n, first / n, started / n, rss / n, loaded / n }'
+}
+
+if [ ! -f "$JAR" ]; then
+    print_error "JVM jar $JAR not found, run mvn package first"
+    exit 1
+fi
+
+rows=$(report jvm "$JAVA" -jar "$JAR")
+if [ -n "$CDS_DIR" ]; then
+    cds_jar=$(ls "$CDS_DIR"/application/*.jar)
+    rows+=$'\n'$(report jvm-cds "$JAVA" -XX:SharedArchiveFile="$CDS_DIR/application.jsa" -Dspring.aot.enabled=true -jar "$cds_jar")
+fi
+if [ -x "$NATIVE" ]; then
+    rows+=$'\n'$(report native "$NATIVE")
+else
+    print_status "Native executable $NATIVE not found, skipping" >&2
+fi
+
+printf "%-8s %12s %16s %12s %14s %15s\n" "build" "healthy ms" "first request ms" "started s" "RSS ready MB" "RSS loaded MB"
+echo "$rows"
@@ -0,0 +1,46 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.audit.AuditRecord;
+import com.sportsevents.audit.BookingAuditLog;
+import com.sportsevents.model.Booking;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cost the audit log adds to a booking transition: {@code BookingAuditLog.append} from
+ * eight threads at once, segment rotations and the background fsync included.
+ * The log is written to target/audit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class AuditLogBenchmark {
+    
+    private BookingAuditLog bookingAuditLog;
+    
+    private final AtomicLong bookingIds = new AtomicLong();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookingAuditLog = BenchmarkContext.bean(BookingAuditLog.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+    
+    @Benchmark
+    public void append() {
+        bookingAuditLog.append(AuditRecord.of(AuditRecord.Type.PAYMENT_CHANGED, bookingIds.incrementAndGet(), 7, 3,
+                Booking.BookingStatus.CONFIRMED, Booking.PaymentStatus.COMPLETED, new BigDecimal("450.00"),
+                "PAY-20260101-000042"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.SportsEventsApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shared Spring context for benchmarks: the application without its web layer,
+ * on a private in-memory H2 database seeded by {@link BenchmarkDataSeeder}.
+ * Started once per forked JVM and reused by every benchmark state in that fork.
+ * Further Spring arguments can be passed with -Dbench.args, e.g. to run against PostgreSQL:
+ * {@code -Dbench.args="--spring.profiles.active=postgresql --spring.datasource.url=jdbc:postgresql://host/db"}
+ */
+public final class BenchmarkContext {
+    
+    // Passed as command-line arguments so they take precedence over application.yml
+    private static final String[] ARGUMENTS = {
+            "--spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+            "--spring.main.banner-mode=off",
+            "--spring.main.lazy-initialization=true",
+            "--springdoc.api-docs.enabled=false",
+            "--sportsevents.outbox.sink=memory",
+            "--sportsevents.audit.directory=target/audit",
+            "--logging.level.root=WARN",
+            "--logging.level.com.sportsevents=WARN",
+            "--logging.level.org.springframework.cache=WARN",
+            "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+    };
+    
+    private static ConfigurableApplicationContext context;
+    
+    private static BenchmarkDataSeeder.SeededData seededData;
+    
+    private BenchmarkContext() {}
+    
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(SportsEventsApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .logStartupInfo(false)
+                    .run(arguments());
+            seededData = new BenchmarkDataSeeder(context).seed();
+        }
+        return context;
+    }
+    
+    /**
+     * The default arguments, with any given in bench.args replacing those of the same name
+     */
+    private static String[] arguments() {
+        String extra = System.getProperty("bench.args", "").trim();
+        if (extra.isEmpty()) {
+            return ARGUMENTS;
+        }
+        List<String> overrides = List.of(extra.split("\\s+"));
+        Set<String> names = overrides.stream().map(BenchmarkContext::name).collect(Collectors.toSet());
+        return Stream.concat(Arrays.stream(ARGUMENTS).filter(argument -> !names.contains(name(argument))),
+                overrides.stream()).toArray(String[]::new);
+    }
+    
+    private static String name(String argument) {
+        int equals = argument.indexOf('=');
+        return equals < 0 ? argument : argument.substring(0, equals);
+    }
+    
+    public static synchronized BenchmarkDataSeeder.SeededData seededData() {
+        get();
+        return seededData;
+    }
+    
+    /**
+     * Close the context so its scheduler threads do not keep the forked JVM alive
+     */
+    public static synchronized void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+            seededData = null;
+        }
+    }
+    
+    public static <T> T bean(Class<T> type) {
+        return get().getBean(type);
+    }
+}
@@ -0,0 +1,129 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.index.EventCatalogLoader;
+import com.sportsevents.index.VenueGeoIndexLoader;
+import com.sportsevents.model.Category;
+import com.sportsevents.model.Event;
+import com.sportsevents.model.User;
+import com.sportsevents.model.Venue;
+import com.sportsevents.repository.CategoryRepository;
+import com.sportsevents.repository.EventRepository;
+import com.sportsevents.repository.UserRepository;
+import com.sportsevents.repository.VenueRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Seeds a benchmark database with a deterministic catalogue of venues, events and users.
+ * Default sizes can be overridden with -Dbench.venues, -Dbench.events and -Dbench.users.
+ */
+public class BenchmarkDataSeeder {
+    
+    private static final String[] CITIES = {
+            "Bangalore", "Mumbai", "Delhi", "Chennai", "Hyderabad", "Pune", "Kolkata", "Jaipur"
+    };
+    
+    private static final String[] WORDS = {
+            "City", "Marathon", "Open", "Cup", "Classic", "Challenge", "Championship", "Trail", "Night", "Relay"
+    };
+    
+    private static final int CHUNK_SIZE = 500;
+    
+    public record SeededData(List<Long> eventIds, List<Long> userIds, List<String> cities, List<String> titleWords) {}
+    
+    private final ApplicationContext context;
+    
+    private final TransactionTemplate transactionTemplate;
+    
+    private final Random random = new Random(42);
+    
+    public BenchmarkDataSeeder(ApplicationContext context) {
+        this.context = context;
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+    
+    public SeededData seed() {
+        return seed(Integer.getInteger("bench.venues", 200),
+                Integer.getInteger("bench.events", 5000),
+                Integer.getInteger("bench.users", 5000));
+    }
+    
+    public SeededData seed(int venueCount, int eventCount, int userCount) {
+        List<Category> categories = context.getBean(CategoryRepository.class).findAll();
+        List<Venue> venues = seedVenues(venueCount);
+        List<Long> eventIds = seedEvents(eventCount, categories, venues);
+        List<Long> userIds = seedUsers(userCount);
+        
+        // The indexes were built at startup from the initializer's data only
+        context.getBean(EventCatalogLoader.class).load();
+        context.getBean(VenueGeoIndexLoader.class).load();
+        return new SeededData(eventIds, userIds, List.of(CITIES), List.of(WORDS));
+    }
+    
+    private List<Venue> seedVenues(int count) {
+        List<Venue> venues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String city = CITIES[i % CITIES.length];
+            Venue venue = new Venue("Venue " + i, i + " Stadium Road, " + city, city);
+            venue.setCountry("India");
+            venue.setLatitude(8 + random.nextDouble() * 20);
+            venue.setLongitude(70 + random.nextDouble() * 20);
+            venue.setCapacity(500 + random.nextInt(20000));
+            venues.add(venue);
+        }
+        return saveInChunks(venues, context.getBean(VenueRepository.class)::saveAll);
+    }
+    
+    private List<Long> seedEvents(int count, List<Category> categories, List<Venue> venues) {
+        LocalDateTime now = LocalDateTime.now();
+        Event.EventType[] types = Event.EventType.values();
+        Event.DifficultyLevel[] levels = Event.DifficultyLevel.values();
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            Event event = new Event(
+                    title,
+                    "Benchmark event " + i + " with a description long enough to resemble real listings.",
+                    now.plusDays(10 + random.nextInt(180)),
+                    now.minusDays(1 + random.nextInt(30)),
+                    now.plusDays(5 + random.nextInt(5)),
+                    categories.get(i % categories.size()),
+                    venues.get(random.nextInt(venues.size())));
+            event.setEventType(types[random.nextInt(types.length)]);
+            event.setDifficultyLevel(levels[random.nextInt(levels.length)]);
+            // Large enough that the contention benchmark never fills an event
+            event.setMaxParticipants(1_000_000);
+            event.setPrice(BigDecimal.valueOf(random.nextInt(4000)));
+            events.add(event);
+        }
+        return saveInChunks(events, context.getBean(EventRepository.class)::saveAll).stream()
+                .map(Event::getId)
+                .toList();
+    }
+    
+    private List<Long> seedUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new User("Bench", "User" + i, "bench.user" + i + "@example.com"));
+        }
+        return saveInChunks(users, context.getBean(UserRepository.class)::saveAll).stream()
+                .map(User::getId)
+                .toList();
+    }
+    
+    private <T> List<T> saveInChunks(List<T> entities, Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += CHUNK_SIZE) {
+            List<T> chunk = entities.subList(from, Math.min(from + CHUNK_SIZE, entities.size()));
+            saved.addAll(transactionTemplate.execute(status -> saveAll.apply(chunk)));
+        }
+        return saved;
+    }
+}
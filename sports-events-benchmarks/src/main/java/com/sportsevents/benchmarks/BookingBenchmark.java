@@ -0,0 +1,58 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.model.Booking;
+import com.sportsevents.service.BookingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code BookingService.createBooking} from eight threads at once, all booking the same
+ * {@code hotEvents} events. Every call uses a fresh user and event pair, so no call is
+ * rejected as a duplicate; once every user has booked, the threads move to the next
+ * block of events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class BookingBenchmark {
+    
+    @Param({"1", "16"})
+    public int hotEvents;
+    
+    private BookingService bookingService;
+    
+    private List<Long> eventIds;
+    
+    private List<Long> userIds;
+    
+    private final AtomicLong sequence = new AtomicLong();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookingService = BenchmarkContext.bean(BookingService.class);
+        eventIds = BenchmarkContext.seededData().eventIds();
+        userIds = BenchmarkContext.seededData().userIds();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+    
+    @Benchmark
+    public Booking createBooking() {
+        long n = sequence.getAndIncrement();
+        int users = userIds.size();
+        long round = n / users;
+        Long userId = userIds.get((int) (n % users));
+        Long eventId = eventIds.get((int) ((round * hotEvents + n % hotEvents) % eventIds.size()));
+        return bookingService.createBooking(userId, eventId, null, null);
+    }
+}
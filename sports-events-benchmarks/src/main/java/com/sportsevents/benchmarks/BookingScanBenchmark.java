@@ -0,0 +1,135 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.model.Booking;
+import com.sportsevents.model.Category;
+import com.sportsevents.model.Event;
+import com.sportsevents.model.Venue;
+import com.sportsevents.repository.CategoryRepository;
+import com.sportsevents.repository.EventRepository;
+import com.sportsevents.repository.VenueRepository;
+import com.sportsevents.service.BookingPartitionService;
+import com.sportsevents.service.BookingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The date-bounded booking queries with {@code historyMonths} months of past bookings
+ * in the table. Each query only reads current bookings, so its time should not grow with
+ * the history: through partition pruning on PostgreSQL, through the event date indexes on H2.
+ * History volume per month can be changed with -Dbench.history.bookings-per-month.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingScanBenchmark {
+    
+    private static final String INSERT_BOOKING =
+            "INSERT INTO bookings (user_id, event_id, event_date, booking_date, booking_status, payment_status, " +
+            "total_amount, created_at, updated_at) VALUES (?, ?, ?, ?, 'CONFIRMED', 'COMPLETED', ?, ?, ?)";
+    
+    private static final int CURRENT_BOOKINGS = 20_000;
+    
+    @Param({"0", "24"})
+    public int historyMonths;
+    
+    private BookingService bookingService;
+    
+    private List<Long> userIds;
+    
+    private Pageable firstPage;
+    
+    private int nextUser;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        bookingService = BenchmarkContext.bean(BookingService.class);
+        userIds = BenchmarkContext.seededData().userIds();
+        firstPage = PageRequest.of(0, 20);
+        
+        JdbcTemplate jdbcTemplate = BenchmarkContext.bean(JdbcTemplate.class);
+        Map<Long, LocalDateTime> eventDates = new HashMap<>();
+        jdbcTemplate.query("SELECT id, event_date FROM events",
+                rs -> { eventDates.put(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()); });
+        
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> eventIds = BenchmarkContext.seededData().eventIds();
+        List<Object[]> rows = new ArrayList<>();
+        // Bookings for the upcoming seeded events, made over the last month
+        for (int i = 0; i < CURRENT_BOOKINGS; i++) {
+            Long eventId = eventIds.get(i % eventIds.size());
+            rows.add(booking(userIds.get(random.nextInt(userIds.size())), eventId, eventDates.get(eventId),
+                    now.minusDays(random.nextInt(30)), random));
+        }
+        jdbcTemplate.batchUpdate(INSERT_BOOKING, rows);
+        
+        int perMonth = Integer.getInteger("bench.history.bookings-per-month", 10_000);
+        for (int month = 1; month <= historyMonths; month++) {
+            Event past = pastEvent(now.minusMonths(month));
+            rows.clear();
+            for (int i = 0; i < perMonth; i++) {
+                rows.add(booking(userIds.get(random.nextInt(userIds.size())), past.getId(), past.getEventDate(),
+                        past.getEventDate().minusDays(1 + random.nextInt(60)), random));
+            }
+            jdbcTemplate.batchUpdate(INSERT_BOOKING, rows);
+        }
+        
+        // Split the history out of the default partition when running on PostgreSQL
+        BenchmarkContext.get().getBeanProvider(BookingPartitionService.class)
+                .ifAvailable(BookingPartitionService::ensurePartitions);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+    
+    @Benchmark
+    public List<Booking> upcomingBookingsByUser() {
+        nextUser = (nextUser + 1) % userIds.size();
+        return bookingService.getUpcomingBookingsByUser(userIds.get(nextUser));
+    }
+    
+    @Benchmark
+    public Page<Booking> recentBookings() {
+        return bookingService.getRecentBookings(LocalDateTime.now().minusDays(1), firstPage);
+    }
+    
+    @Benchmark
+    public List<Booking> bookingsForEventsStartingSoon() {
+        return bookingService.getBookingsForEventsStartingSoon(LocalDateTime.now().plusDays(14));
+    }
+    
+    private Event pastEvent(LocalDateTime eventDate) {
+        Category category = BenchmarkContext.bean(CategoryRepository.class).findAll().get(0);
+        Venue venue = BenchmarkContext.bean(VenueRepository.class).findAll(PageRequest.of(0, 1)).getContent().get(0);
+        Event event = new Event("Past event " + eventDate.toLocalDate(), "Benchmark history event", eventDate,
+                eventDate.minusDays(90), eventDate.minusDays(1), category, venue);
+        event.setEventType(Event.EventType.RUNNING);
+        event.setStatus(Event.EventStatus.COMPLETED);
+        event.setMaxParticipants(1_000_000);
+        return BenchmarkContext.bean(EventRepository.class).save(event);
+    }
+    
+    private Object[] booking(Long userId, Long eventId, LocalDateTime eventDate, LocalDateTime bookedAt, Random random) {
+        Timestamp booked = Timestamp.valueOf(bookedAt);
+        return new Object[] {userId, eventId, Timestamp.valueOf(eventDate), booked,
+                BigDecimal.valueOf(random.nextInt(4000)), booked, booked};
+    }
+}
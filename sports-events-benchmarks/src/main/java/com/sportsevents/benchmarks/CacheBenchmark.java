@@ -0,0 +1,71 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.model.Event;
+import com.sportsevents.service.EventService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hit and miss paths of the Spring "events" cache ({@code getEventById}) and of the
+ * Hibernate second-level entity cache ({@code findEventById}). Miss benchmarks include
+ * the cost of evicting the entry first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+    
+    private EventService eventService;
+    
+    private Cache eventsCache;
+    
+    private org.hibernate.Cache secondLevelCache;
+    
+    private Long eventId;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventService = BenchmarkContext.bean(EventService.class);
+        eventsCache = BenchmarkContext.bean(CacheManager.class).getCache("events");
+        secondLevelCache = BenchmarkContext.bean(EntityManagerFactory.class)
+                .getCache().unwrap(org.hibernate.Cache.class);
+        eventId = BenchmarkContext.seededData().eventIds().get(0);
+        eventService.getEventById(eventId);
+        eventService.findEventById(eventId);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+    
+    @Benchmark
+    public Optional<Event> springCacheHit() {
+        return eventService.getEventById(eventId);
+    }
+    
+    @Benchmark
+    public Optional<Event> springCacheMiss() {
+        eventsCache.evict(eventId);
+        return eventService.getEventById(eventId);
+    }
+    
+    @Benchmark
+    public Optional<Event> secondLevelCacheHit() {
+        return eventService.findEventById(eventId);
+    }
+    
+    @Benchmark
+    public Optional<Event> secondLevelCacheMiss() {
+        secondLevelCache.evictEntityData(Event.class, eventId);
+        return eventService.findEventById(eventId);
+    }
+}
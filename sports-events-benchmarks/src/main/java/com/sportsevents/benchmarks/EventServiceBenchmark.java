@@ -0,0 +1,86 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.dto.FacetCounts;
+import com.sportsevents.index.Facet;
+import com.sportsevents.index.FacetFilter;
+import com.sportsevents.index.PriceBand;
+import com.sportsevents.model.Event;
+import com.sportsevents.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventService listing, search and faceted filtering with the "events" cache cleared
+ * before every call, so the query path is measured; {@link CacheBenchmark} covers hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+    
+    private EventService eventService;
+    
+    private Cache eventsCache;
+    
+    private Pageable firstPage;
+    
+    private String city;
+    
+    private FacetFilter filter;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventService = BenchmarkContext.bean(EventService.class);
+        eventsCache = BenchmarkContext.bean(CacheManager.class).getCache("events");
+        firstPage = PageRequest.of(0, 20);
+        city = BenchmarkContext.seededData().cities().get(0);
+        filter = new FacetFilter()
+                .with(Facet.CITY, List.of(city))
+                .with(Facet.PRICE_BAND, List.of(PriceBand.FROM_1000_TO_2500, PriceBand.ABOVE_2500));
+    }
+    
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        eventsCache.clear();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+    
+    @Benchmark
+    public Page<Event> listActiveEvents() {
+        return eventService.getActiveEventsWithOpenRegistration(firstPage);
+    }
+    
+    @Benchmark
+    public Page<Event> listEventsByCity() {
+        return eventService.getEventsByCity(city, firstPage);
+    }
+    
+    @Benchmark
+    public Page<Event> searchEvents() {
+        return eventService.searchEvents("marathon", firstPage);
+    }
+    
+    @Benchmark
+    public Page<Event> filterEvents() {
+        return eventService.filterEvents(filter, firstPage);
+    }
+    
+    @Benchmark
+    public FacetCounts facetCounts() {
+        return eventService.getFacetCounts(filter);
+    }
+}
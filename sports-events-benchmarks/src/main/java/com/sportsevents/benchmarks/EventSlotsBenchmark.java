@@ -0,0 +1,42 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.model.Booking;
+import com.sportsevents.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Event.hasAvailableSlots} on an event whose bookings are already in memory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSlotsBenchmark {
+    
+    @Param({"0", "100", "10000"})
+    public int bookings;
+    
+    private Event event;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = new Event();
+        event.setMaxParticipants(bookings + 1);
+        List<Booking> list = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            list.add(new Booking());
+        }
+        event.setBookings(list);
+    }
+    
+    @Benchmark
+    public boolean hasAvailableSlots() {
+        return event.hasAvailableSlots();
+    }
+}
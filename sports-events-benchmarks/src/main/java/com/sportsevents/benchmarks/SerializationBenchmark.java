@@ -0,0 +1,61 @@
+package com.sportsevents.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsevents.model.Event;
+import com.sportsevents.repository.EventRepository;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a {@code Page<Event>} with the application's ObjectMapper,
+ * category, venue and participant count included as in the listing endpoints
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    @Param({"20", "100"})
+    public int pageSize;
+    
+    private ObjectMapper objectMapper;
+    
+    private Page<Event> page;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = BenchmarkContext.bean(ObjectMapper.class);
+        EventRepository eventRepository = BenchmarkContext.bean(EventRepository.class);
+        page = BenchmarkContext.bean(TransactionTemplate.class).execute(status -> {
+            Page<Event> events = eventRepository.findActiveEventsWithOpenRegistration(
+                    Event.EventStatus.ACTIVE, LocalDateTime.now(), PageRequest.of(0, pageSize));
+            events.forEach(event -> {
+                Hibernate.initialize(event.getCategory());
+                Hibernate.initialize(event.getVenue());
+                // Serialized through getCurrentParticipants(), loaded under open-in-view in the web app
+                Hibernate.initialize(event.getBookings());
+            });
+            return events;
+        });
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+    
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
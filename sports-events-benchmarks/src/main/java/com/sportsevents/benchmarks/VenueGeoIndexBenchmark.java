@@ -0,0 +1,60 @@
+package com.sportsevents.benchmarks;
+
+import com.sportsevents.index.VenueGeoIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Radius queries against a {@link VenueGeoIndex} of 100k venues spread over India
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VenueGeoIndexBenchmark {
+    
+    private static final int VENUES = 100_000;
+    
+    private static final int QUERY_POINTS = 1024;
+    
+    @Param({"10", "50"})
+    public double radiusKm;
+    
+    private VenueGeoIndex index;
+    
+    private double[][] queryPoints;
+    
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new VenueGeoIndex();
+        for (int i = 0; i < VENUES; i++) {
+            index.put(i, randomLatitude(random), randomLongitude(random));
+        }
+        queryPoints = new double[QUERY_POINTS][];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queryPoints[i] = new double[] {randomLatitude(random), randomLongitude(random)};
+        }
+    }
+    
+    @Benchmark
+    public List<VenueGeoIndex.VenueDistance> findWithinRadius() {
+        double[] point = queryPoints[next++ & (QUERY_POINTS - 1)];
+        return index.findWithinRadius(point[0], point[1], radiusKm);
+    }
+    
+    private static double randomLatitude(SplittableRandom random) {
+        return 8 + random.nextDouble() * 27;
+    }
+    
+    private static double randomLongitude(SplittableRandom random) {
+        return 68 + random.nextDouble() * 29;
+    }
+}
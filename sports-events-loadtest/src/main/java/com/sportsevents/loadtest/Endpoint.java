@@ -0,0 +1,26 @@
+package com.sportsevents.loadtest;
+
+/**
+ * Request types in a scenario mix
+ */
+public enum Endpoint {
+    BROWSE("GET /api/events"),
+    SEARCH("GET /api/events/search"),
+    DETAILS("GET /api/events/{id}"),
+    AVAILABILITY("GET /api/events/{id}/availability"),
+    BOOK("POST /api/bookings");
+    
+    private final String label;
+    
+    Endpoint(String label) {
+        this.label = label;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    public String getMixKey() {
+        return "mix." + name().toLowerCase();
+    }
+}
@@ -0,0 +1,40 @@
+package com.sportsevents.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count for one endpoint, safe for concurrent recording
+ */
+class EndpointRecorder {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    
+    private final LongAdder errors = new LongAdder();
+    
+    void recordSuccess(long latencyNanos) {
+        latencies.recordValue(toMicros(latencyNanos));
+    }
+    
+    void recordError(long latencyNanos) {
+        latencies.recordValue(toMicros(latencyNanos));
+        errors.increment();
+    }
+    
+    Histogram latencies() {
+        return latencies;
+    }
+    
+    long errors() {
+        return errors.sum();
+    }
+    
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+}
@@ -0,0 +1,176 @@
+package com.sportsevents.loadtest;
+
+import com.sportsevents.benchmarks.BenchmarkDataSeeder.SeededData;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator. Requests are released on a fixed schedule at the target rate
+ * whether or not earlier ones have finished, and latency is measured from the scheduled
+ * start, so a stalled server shows up as queueing time instead of a lower request rate.
+ */
+class LoadGenerator {
+    
+    private final LoadTestConfig config;
+    
+    private final String baseUrl;
+    
+    private final SeededData data;
+    
+    private final String authorization;
+    
+    private final HttpClient client;
+    
+    private final Endpoint[] weightedEndpoints;
+    
+    private final AtomicLong bookingSequence = new AtomicLong();
+    
+    LoadGenerator(LoadTestConfig config, String baseUrl, SeededData data, String username, String password) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.weightedEndpoints = weightedEndpoints(config.mix());
+    }
+    
+    record Result(Map<Endpoint, EndpointRecorder> recorders, Duration elapsed) {}
+    
+    /**
+     * Drive traffic through the warm-up and measurement phases; only the measurement phase is recorded
+     */
+    Result run() {
+        Map<Endpoint, EndpointRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new EndpointRecorder());
+        }
+        
+        drive(config.warmup(), null);
+        Duration elapsed = drive(config.duration(), recorders);
+        return new Result(recorders, elapsed);
+    }
+    
+    /**
+     * Release requests for one phase and wait for them to finish, returning the time taken
+     */
+    private Duration drive(Duration phase, Map<Endpoint, EndpointRecorder> recorders) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rps();
+        long total = phase.toSeconds() * config.rps();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long scheduled = start + i * intervalNanos;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                
+                Endpoint endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+                EndpointRecorder recorder = recorders != null ? recorders.get(endpoint) : null;
+                if (!inFlight.tryAcquire()) {
+                    // Client-side saturation: the request could not even be sent
+                    if (recorder != null) {
+                        recorder.recordError(System.nanoTime() - scheduled);
+                    }
+                    continue;
+                }
+                workers.execute(() -> {
+                    try {
+                        send(endpoint, scheduled, recorder);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+    
+    private void send(Endpoint endpoint, long scheduled, EndpointRecorder recorder) {
+        boolean success;
+        try {
+            HttpResponse<Void> response = client.send(request(endpoint), HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() / 100 == 2;
+        } catch (Exception e) {
+            success = false;
+        }
+        if (recorder != null) {
+            long latency = System.nanoTime() - scheduled;
+            if (success) {
+                recorder.recordSuccess(latency);
+            } else {
+                recorder.recordError(latency);
+            }
+        }
+    }
+    
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> eventIds = data.eventIds();
+        String path = switch (endpoint) {
+            case BROWSE -> "/api/events?page=" + random.nextInt(config.browsePages()) + "&size=12";
+            case SEARCH -> "/api/events/search?q=" + URLEncoder.encode(
+                    data.titleWords().get(random.nextInt(data.titleWords().size())), StandardCharsets.UTF_8);
+            case DETAILS -> "/api/events/" + eventIds.get(random.nextInt(eventIds.size()));
+            case AVAILABILITY -> "/api/events/" + eventIds.get(random.nextInt(eventIds.size())) + "/availability";
+            case BOOK -> bookingPath();
+        };
+        
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(config.requestTimeout())
+                .header("Authorization", authorization)
+                .header("Accept", "application/json");
+        return endpoint == Endpoint.BOOK
+                ? builder.POST(HttpRequest.BodyPublishers.noBody()).build()
+                : builder.GET().build();
+    }
+    
+    /**
+     * Next unused user and hot event pair; once every user has booked, move to the next block of events
+     */
+    private String bookingPath() {
+        long n = bookingSequence.getAndIncrement();
+        List<Long> userIds = data.userIds();
+        List<Long> eventIds = data.eventIds();
+        long round = n / userIds.size();
+        Long userId = userIds.get((int) (n % userIds.size()));
+        Long eventId = eventIds.get((int) ((round * config.hotEvents() + n % config.hotEvents()) % eventIds.size()));
+        return "/api/bookings?userId=" + userId + "&eventId=" + eventId;
+    }
+    
+    private static Endpoint[] weightedEndpoints(Map<Endpoint, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Endpoint[] table = new Endpoint[total];
+        int index = 0;
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[index++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,96 @@
+package com.sportsevents.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sportsevents.SportsEventsApplication;
+import com.sportsevents.benchmarks.BenchmarkDataSeeder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Boots the backend on a random port with a seeded dataset, runs a scenario against it,
+ * prints the per-endpoint report and compares it with the stored baseline.
+ * Exits with status 1 when the run regresses against the baseline.
+ */
+public class LoadTestApplication {
+    
+    // Passed as command-line arguments so they take precedence over application.yml
+    private static final String[] APPLICATION_ARGUMENTS = {
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+            "--spring.main.banner-mode=off",
+            "--sportsevents.outbox.sink=memory",
+            "--logging.level.root=WARN",
+            "--logging.level.com.sportsevents=WARN",
+            "--logging.level.org.springframework.cache=WARN",
+            "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+    };
+    
+    public static void main(String[] args) throws IOException {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                SportsEventsApplication.class, LoadTestSecurityConfig.class)
+                .logStartupInfo(false)
+                .run(APPLICATION_ARGUMENTS);
+        LoadTestReport report;
+        try {
+            System.out.printf("Seeding %d venues, %d events and %d users%n",
+                    config.seedVenues(), config.seedEvents(), config.seedUsers());
+            BenchmarkDataSeeder.SeededData data = new BenchmarkDataSeeder(context)
+                    .seed(config.seedVenues(), config.seedEvents(), config.seedUsers());
+            
+            Environment environment = context.getEnvironment();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadGenerator generator = new LoadGenerator(config, "http://localhost:" + port, data,
+                    environment.getProperty("spring.security.user.name"),
+                    environment.getProperty("spring.security.user.password"));
+            
+            System.out.printf("Running scenario %s at %d rps: %d s warm-up, %d s measured%n",
+                    config.scenario(), config.rps(), config.warmup().toSeconds(), config.duration().toSeconds());
+            LoadGenerator.Result result = generator.run();
+            report = LoadTestReport.of(config, result.recorders(), result.elapsed());
+        } finally {
+            context.close();
+        }
+        
+        System.out.print(report.format());
+        Files.createDirectories(config.resultFile().toAbsolutePath().getParent());
+        objectMapper.writeValue(config.resultFile().toFile(), report);
+        System.out.println("Results written to " + config.resultFile());
+        
+        System.exit(compareWithBaseline(config, report, objectMapper));
+    }
+    
+    private static int compareWithBaseline(LoadTestConfig config, LoadTestReport report, ObjectMapper objectMapper)
+            throws IOException {
+        if (config.updateBaseline()) {
+            Files.createDirectories(config.baselineFile().toAbsolutePath().getParent());
+            objectMapper.writeValue(config.baselineFile().toFile(), report);
+            System.out.println("Baseline updated: " + config.baselineFile());
+            return 0;
+        }
+        if (!Files.exists(config.baselineFile())) {
+            System.out.println("No baseline at " + config.baselineFile() + ", rerun with update-baseline=true to store one");
+            return 0;
+        }
+        
+        LoadTestReport baseline = objectMapper.readValue(config.baselineFile().toFile(), LoadTestReport.class);
+        List<String> regressions = report.compareTo(baseline, config.tolerance());
+        if (regressions.isEmpty()) {
+            System.out.printf("No regressions against %s (tolerance %.0f%%)%n", config.baselineFile(), config.tolerance() * 100);
+            return 0;
+        }
+        System.out.printf("%d regressions against %s (tolerance %.0f%%):%n",
+                regressions.size(), config.baselineFile(), config.tolerance() * 100);
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return 1;
+    }
+}
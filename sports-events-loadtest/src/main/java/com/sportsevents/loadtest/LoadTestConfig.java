@@ -0,0 +1,98 @@
+package com.sportsevents.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Load test settings from {@code scenarios/<scenario>.properties}, overridden by
+ * {@code key=value} (or {@code --key=value}) command-line arguments
+ */
+public record LoadTestConfig(
+        String scenario,
+        int rps,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        int hotEvents,
+        int browsePages,
+        int maxInFlight,
+        Duration requestTimeout,
+        int seedVenues,
+        int seedEvents,
+        int seedUsers,
+        double tolerance,
+        boolean updateBaseline,
+        Path baselineFile,
+        Path resultFile) {
+    
+    public static LoadTestConfig fromArgs(String[] args) {
+        Properties overrides = new Properties();
+        for (String arg : args) {
+            String setting = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = setting.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            overrides.setProperty(setting.substring(0, separator), setting.substring(separator + 1));
+        }
+        
+        String scenario = overrides.getProperty("scenario", "onsale");
+        Properties properties = loadScenario(scenario);
+        properties.putAll(overrides);
+        
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            mix.put(endpoint, Integer.parseInt(properties.getProperty(endpoint.getMixKey(), "0")));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Scenario " + scenario + " has no traffic in its mix");
+        }
+        
+        return new LoadTestConfig(
+                scenario,
+                intValue(properties, "rps"),
+                Duration.ofSeconds(intValue(properties, "warmup-seconds")),
+                Duration.ofSeconds(intValue(properties, "duration-seconds")),
+                Collections.unmodifiableMap(mix),
+                intValue(properties, "hot-events"),
+                intValue(properties, "browse-pages"),
+                intValue(properties, "max-in-flight"),
+                Duration.ofMillis(intValue(properties, "timeout-ms")),
+                intValue(properties, "seed.venues"),
+                intValue(properties, "seed.events"),
+                intValue(properties, "seed.users"),
+                Double.parseDouble(properties.getProperty("tolerance", "0.25")),
+                Boolean.parseBoolean(properties.getProperty("update-baseline", "false")),
+                Path.of(properties.getProperty("baseline-file", "baselines/" + scenario + ".json")),
+                Path.of(properties.getProperty("result-file", "target/loadtest-" + scenario + ".json")));
+    }
+    
+    private static Properties loadScenario(String scenario) {
+        String resource = "scenarios/" + scenario + ".properties";
+        try (InputStream in = LoadTestConfig.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown scenario " + scenario + ", no " + resource);
+            }
+            Properties properties = new Properties();
+            properties.load(in);
+            return properties;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static int intValue(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing load test setting " + key);
+        }
+        return Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportsevents.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint throughput, latency percentiles and error rate of one run, as stored in baselines
+ */
+public record LoadTestReport(String scenario, int targetRps, double durationSeconds,
+                             Map<String, EndpointReport> endpoints) {
+    
+    public static final String ALL = "ALL";
+    
+    // Latency changes below this are treated as noise whatever the relative change
+    private static final double MIN_LATENCY_DELTA_MS = 1.0;
+    
+    public record EndpointReport(long requests, long errors, double errorRate, double throughput,
+                                 double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+        
+        static EndpointReport of(Histogram latencies, long errors, double seconds) {
+            long requests = latencies.getTotalCount();
+            return new EndpointReport(
+                    requests,
+                    errors,
+                    requests == 0 ? 0 : (double) errors / requests,
+                    requests / seconds,
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()));
+        }
+        
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+    
+    static LoadTestReport of(LoadTestConfig config, Map<Endpoint, EndpointRecorder> recorders, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Map<String, EndpointReport> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        for (Map.Entry<Endpoint, EndpointRecorder> entry : recorders.entrySet()) {
+            if (config.mix().get(entry.getKey()) == 0) {
+                continue;
+            }
+            EndpointRecorder recorder = entry.getValue();
+            endpoints.put(entry.getKey().name(), EndpointReport.of(recorder.latencies(), recorder.errors(), seconds));
+            all.add(recorder.latencies());
+            allErrors += recorder.errors();
+        }
+        endpoints.put(ALL, EndpointReport.of(all, allErrors, seconds));
+        return new LoadTestReport(config.scenario(), config.rps(), seconds, endpoints);
+    }
+    
+    /**
+     * Human-readable table of the report
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Scenario %s, target %d rps, measured %.1f s%n", scenario, targetRps, durationSeconds));
+        out.append(String.format("%-14s %10s %9s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "rps", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((name, report) -> out.append(String.format("%-14s %10d %9.1f %7.2f%% %10.2f %10.2f %10.2f %10.2f%n",
+                name, report.requests(), report.throughput(), report.errorRate() * 100,
+                report.p50Ms(), report.p99Ms(), report.p999Ms(), report.maxMs())));
+        return out.toString();
+    }
+    
+    /**
+     * Regressions against a baseline: latency or throughput worse by more than the tolerance
+     * (latency also by at least a millisecond), or an error rate more than one percentage point higher
+     */
+    public List<String> compareTo(LoadTestReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        endpoints.forEach((name, current) -> {
+            EndpointReport previous = baseline.endpoints().get(name);
+            if (previous == null) {
+                return;
+            }
+            checkLatency(regressions, name, "p50", previous.p50Ms(), current.p50Ms(), tolerance);
+            checkLatency(regressions, name, "p99", previous.p99Ms(), current.p99Ms(), tolerance);
+            if (current.throughput() < previous.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f rps, baseline %.1f rps",
+                        name, current.throughput(), previous.throughput()));
+            }
+            if (current.errorRate() > previous.errorRate() + 0.01) {
+                regressions.add(String.format("%s error rate %.2f%%, baseline %.2f%%",
+                        name, current.errorRate() * 100, previous.errorRate() * 100));
+            }
+        });
+        return regressions;
+    }
+    
+    private static void checkLatency(List<String> regressions, String name, String percentile,
+                                     double baseline, double current, double tolerance) {
+        if (current > baseline * (1 + tolerance) && current - baseline > MIN_LATENCY_DELTA_MS) {
+            regressions.add(String.format("%s %s %.2f ms, baseline %.2f ms", name, percentile, current, baseline));
+        }
+    }
+}